@@ -0,0 +1,68 @@
+package com.tcon.careers.config;
+
+import com.tcon.careers.model.Job;
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the indexes declared on the mapped documents at startup.
+ * MongoConfig builds its own MongoTemplate, so spring.data.mongodb.auto-index-creation
+ * never applies and the annotations would otherwise only be documentation.
+ * A single index that cannot be created is logged and skipped; an unreachable
+ * database fails startup on the first index instead of timing out on each one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+
+    private static final List<Class<?>> INDEXED_DOCUMENTS = List.of(Job.class, JobApplication.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final JobRepository jobRepository;
+
+    @PostConstruct
+    public void createIndexes() {
+        IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> type : INDEXED_DOCUMENTS) {
+            IndexOperations indexOps = mongoTemplate.indexOps(type);
+            for (IndexDefinition index : resolver.resolveIndexFor(type)) {
+                createIndex(type, indexOps, index);
+            }
+        }
+
+        // The non-snapshot job search runs $text queries, which fail outright without this index
+        try {
+            jobRepository.ensureTextIndex();
+        } catch (DataAccessResourceFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Could not create the jobs text index: {}", e.getMessage());
+        }
+    }
+
+    private void createIndex(Class<?> type, IndexOperations indexOps, IndexDefinition index) {
+        try {
+            // No-op when an identical index already exists
+            indexOps.createIndex(index);
+        } catch (DataAccessResourceFailureException e) {
+            log.error("MongoDB is unreachable, giving up on index creation: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            // Keep starting up; a conflicting definition needs a manual drop, not a crash loop
+            log.error("Could not create index {} on {}: {}",
+                    index.getIndexKeys().toJson(), type.getSimpleName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.tcon.careers.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // Scheduling configuration for periodic background refreshes
+}
@@ -0,0 +1,259 @@
+package com.tcon.careers.controller;
+
+import com.tcon.careers.dto.ApiResponse;
+import com.tcon.careers.dto.ApplicationFilter;
+import com.tcon.careers.dto.DeltaExportWindow;
+import com.tcon.careers.dto.ExportJobRequest;
+import com.tcon.careers.dto.ExportJobStatus;
+import com.tcon.careers.model.ExportWatermark;
+import com.tcon.careers.service.DeltaExportService;
+import com.tcon.careers.service.ExportJobService;
+import com.tcon.careers.service.ExportService;
+import com.tcon.careers.service.PartitionedExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/exports")
+@RequiredArgsConstructor
+@Tag(name = "Exports", description = "Application data exports")
+public class ExportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+    private static final String WATERMARK_HEADER = "X-Export-Watermark";
+    private static final String SINCE_HEADER = "X-Export-Since";
+    private static final MediaType XLSX =
+            MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private final ExportService exportService;
+    private final ExportJobService exportJobService;
+    private final DeltaExportService deltaExportService;
+    private final PartitionedExportService partitionedExportService;
+
+    @Value("${app.export.stream-timeout-ms:1800000}")
+    private long streamTimeoutMs;
+
+    @GetMapping("/applications.csv")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Export applications as CSV", description = "Stream applications matching the admin filters as CSV (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @RequestParam(required = false) String jobId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTo,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            HttpServletRequest request
+    ) {
+        ApplicationFilter filter = toFilter(jobId, status, department, dateFrom, dateTo, search, includeArchived);
+
+        allowLongStream(request);
+        StreamingResponseBody body = out -> exportService.writeCsv(filter, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment("csv"))
+                .contentType(TEXT_CSV)
+                .body(body);
+    }
+
+    @GetMapping("/applications.xlsx")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Export applications as Excel", description = "Stream applications matching the admin filters as an XLSX workbook (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportExcel(
+            @RequestParam(required = false) String jobId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTo,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            HttpServletRequest request
+    ) {
+        ApplicationFilter filter = toFilter(jobId, status, department, dateFrom, dateTo, search, includeArchived);
+
+        allowLongStream(request);
+        StreamingResponseBody body = out -> exportService.writeExcel(filter, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment("xlsx"))
+                .contentType(XLSX)
+                .body(body);
+    }
+
+    @GetMapping("/applications/partitioned")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Export applications in parallel", description = "Split the applicationDate range into partitions exported concurrently and stitched together in order, as CSV or NDJSON (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportPartitioned(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "0") int partitions,
+            @RequestParam(required = false) String jobId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTo,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            HttpServletRequest request
+    ) throws IOException {
+        boolean ndjson = PartitionedExportService.NDJSON.equals(format);
+        if (!ndjson && !PartitionedExportService.CSV.equals(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+        ApplicationFilter filter = toFilter(jobId, status, department, dateFrom, dateTo, search, includeArchived);
+
+        PartitionedExportService.PendingExport export;
+        try {
+            export = partitionedExportService.start(filter, format, partitions);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        allowLongStream(request);
+        StreamingResponseBody body = export::writeTo;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment(format))
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : TEXT_CSV)
+                .body(body);
+    }
+
+    @GetMapping("/applications/delta.csv")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Export changed applications as CSV", description = "Stream applications whose lastUpdated is after the given or acknowledged watermark; acknowledge the returned X-Export-Watermark once imported (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportDelta(
+            @RequestParam(required = false) String consumer,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            HttpServletRequest request
+    ) {
+        DeltaExportWindow window = deltaExportService.resolveWindow(consumer, since);
+
+        allowLongStream(request);
+        StreamingResponseBody body = out -> deltaExportService.write(window, out);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment("csv"))
+                .header(WATERMARK_HEADER, window.getUntil().toString());
+        if (window.getSince() != null) {
+            response.header(SINCE_HEADER, window.getSince().toString());
+        }
+        return response.contentType(TEXT_CSV).body(body);
+    }
+
+    @PutMapping("/watermarks/{consumer}")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Acknowledge delta export", description = "Record that the consumer imported a delta, passing back its X-Export-Watermark; the next delta starts there (Admin only)")
+    public ResponseEntity<ApiResponse<ExportWatermark>> acknowledgeDelta(
+            @PathVariable String consumer,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime watermark
+    ) {
+        try {
+            ExportWatermark stored = deltaExportService.acknowledge(consumer, watermark);
+            return ResponseEntity.ok(ApiResponse.success("Watermark acknowledged", stored));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @PostMapping("/jobs")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Start export job", description = "Generate a CSV or XLSX export in the background; identical in-flight requests share one job (Admin only)")
+    public ResponseEntity<ApiResponse<ExportJobStatus>> createExportJob(@Valid @RequestBody ExportJobRequest request) {
+        try {
+            ExportJobStatus job = exportJobService.submit(request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("Export job accepted", job));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/jobs/{id}")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Get export job status", description = "Status, progress and row counts of an export job (Admin only)")
+    public ResponseEntity<ApiResponse<ExportJobStatus>> getExportJob(@PathVariable String id) {
+        return exportJobService.getStatus(id)
+                .map(job -> ResponseEntity.ok(ApiResponse.success(job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Export job not found with id: " + id)));
+    }
+
+    @GetMapping("/jobs/{id}/download")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Download export", description = "Download the file produced by a completed export job (Admin only)")
+    public ResponseEntity<Resource> downloadExport(@PathVariable String id) throws IOException {
+        Optional<ExportJobStatus> job = exportJobService.getStatus(id);
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // Closed by the resource converter once written, which lets the job's file expire
+        Optional<InputStream> file = exportJobService.openFile(id);
+        if (file.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        String format = job.get().getFormat();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        attachment(format, job.get().getCreatedAt().toLocalDate()))
+                .contentType("xlsx".equals(format) ? XLSX : TEXT_CSV);
+        if (job.get().getFileSize() != null) {
+            response.contentLength(job.get().getFileSize());
+        }
+        return response.body(new InputStreamResource(file.get()));
+    }
+
+    // Exports outlive the default async timeout; give only these requests the long allowance
+    private void allowLongStream(HttpServletRequest request) {
+        AsyncWebRequest asyncRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncRequest != null) {
+            asyncRequest.setTimeout(streamTimeoutMs);
+        }
+    }
+
+    private ApplicationFilter toFilter(String jobId, String status, String department, LocalDateTime dateFrom,
+                                       LocalDateTime dateTo, String search, boolean includeArchived) {
+        return ApplicationFilter.builder()
+                .jobId(jobId)
+                .status(status)
+                .department(department)
+                .dateFrom(dateFrom)
+                .dateTo(dateTo)
+                .search(search)
+                .includeArchived(includeArchived)
+                .build();
+    }
+
+    private String attachment(String extension) {
+        return attachment(extension, LocalDate.now());
+    }
+
+    private String attachment(String extension, LocalDate date) {
+        return ContentDisposition.attachment()
+                .filename("applications-" + date + "." + extension)
+                .build()
+                .toString();
+    }
+}
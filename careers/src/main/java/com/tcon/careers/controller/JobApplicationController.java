@@ -15,6 +15,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -49,11 +51,11 @@ public class JobApplicationController {
 
     @GetMapping("/applications/track/{applicationId}")
     @Operation(summary = "Track application", description = "Track application status by application ID (public endpoint)")
-    public ResponseEntity<ApiResponse<Map<String, String>>> trackApplication(
+    public ResponseEntity<ApiResponse<ApplicationTracking>> trackApplication(
             @PathVariable String applicationId
     ) {
         try {
-            Map<String, String> trackingInfo = applicationService.trackApplication(applicationId);
+            ApplicationTracking trackingInfo = applicationService.trackApplication(applicationId);
             return ResponseEntity.ok(ApiResponse.success(trackingInfo));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -64,22 +66,58 @@ public class JobApplicationController {
     @GetMapping("/admin/applications")
     // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
     @Operation(summary = "Get all applications", description = "Fetch all applications with filters (Admin only)")
-    public ResponseEntity<ApiResponse<PageResponse<JobApplication>>> getAllApplications(
+    public ResponseEntity<ApiResponse<PageResponse<ApplicationListItem>>> getAllApplications(
             @RequestParam(required = false) String jobId,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String department,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateFrom,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTo,
             @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        PageResponse<JobApplication> applications = applicationService.getAllApplications(
-                jobId, status, department, dateFrom, dateTo, search, page, size
+        PageResponse<ApplicationListItem> applications = applicationService.getAllApplications(
+                jobId, status, department, dateFrom, dateTo, search, includeArchived, page, size
         );
         return ResponseEntity.ok(ApiResponse.success(applications));
     }
 
+    @GetMapping("/admin/applications/cursor")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Get applications by cursor", description = "Keyset pagination over applications, newest first; pass nextCursor from the previous page to continue (Admin only)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ApplicationListItem>>> getApplicationsByCursor(
+            @RequestParam(required = false) String jobId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTo,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        try {
+            ApplicationFilter filter = ApplicationFilter.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .department(department)
+                    .dateFrom(dateFrom)
+                    .dateTo(dateTo)
+                    .search(search)
+                    .includeArchived(includeArchived)
+                    .build();
+            CursorPageResponse<ApplicationListItem> applications = applicationService.getApplicationsByCursor(
+                    filter, cursor, limit, includeTotal
+            );
+            return ResponseEntity.ok(ApiResponse.success(applications));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     @GetMapping("/admin/applications/{id}")
     // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
     @Operation(summary = "Get application by ID", description = "Fetch a single application by ID (Admin only)")
@@ -109,6 +147,39 @@ public class JobApplicationController {
         }
     }
 
+    @PostMapping("/admin/applications/bulk-status")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Bulk update application status", description = "Move many applications to one status in a single batched write (Admin only)")
+    public ResponseEntity<ApiResponse<BulkStatusUpdateResponse>> bulkUpdateStatus(
+            @Valid @RequestBody BulkStatusUpdateRequest request
+    ) {
+        try {
+            BulkStatusUpdateResponse result = applicationService.bulkUpdateStatus(request);
+            return ResponseEntity.ok(ApiResponse.success("Bulk status update completed", result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Bulk status update failed: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @PostMapping("/admin/applications/archive")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Archive closed applications", description = "Move old rejected and hired applications to the archive collection now instead of waiting for the nightly run (Admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> archiveClosedApplications() {
+        try {
+            long archived = applicationService.archiveClosedApplications();
+            return ResponseEntity.ok(ApiResponse.success("Archiving completed", Map.of("archived", archived)));
+        } catch (Exception e) {
+            log.error("Application archiving failed: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     @PostMapping("/admin/applications/{id}/notes")
     // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
     @Operation(summary = "Add admin note", description = "Add a note to an application (Admin only)")
@@ -162,6 +233,39 @@ public class JobApplicationController {
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
 
+    @PostMapping("/admin/dashboard/stats/reconcile")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Reconcile dashboard statistics", description = "Rebuild the dashboard counters from the applications collection (Admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> reconcileDashboardStats() {
+        try {
+            Map<String, Object> stats = applicationService.reconcileDashboardStats();
+            return ResponseEntity.ok(ApiResponse.success("Dashboard statistics reconciled", stats));
+        } catch (Exception e) {
+            log.error("Error reconciling dashboard statistics: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to reconcile dashboard statistics: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/admin/dashboard/cache-stats")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Get application cache stats", description = "Hit, miss and eviction counts for the application lookup cache (Admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(applicationService.getCacheStats()));
+    }
+
+    @GetMapping(value = "/admin/dashboard/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Stream dashboard events", description = "Server-sent events for new applications, status changes and deletions (Admin only)")
+    public ResponseEntity<SseEmitter> streamDashboardEvents() {
+        try {
+            return ResponseEntity.ok(applicationService.subscribeToEvents());
+        } catch (IllegalStateException e) {
+            log.warn("Rejected dashboard event subscription: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     @GetMapping("/admin/dashboard/recent-applications")
     // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
     @Operation(summary = "Get recent applications", description = "Get the 10 most recent applications (Admin only)")
@@ -172,9 +276,31 @@ public class JobApplicationController {
 
     @GetMapping("/admin/dashboard/pending-reviews")
     // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
-    @Operation(summary = "Get pending reviews", description = "Get applications pending review (Admin only)")
-    public ResponseEntity<ApiResponse<List<JobApplication>>> getPendingReviews() {
-        List<JobApplication> applications = applicationService.getPendingReviews();
-        return ResponseEntity.ok(ApiResponse.success(applications));
+    @Operation(summary = "Get pending reviews", description = "Get applications pending review, oldest first, using keyset pagination (Admin only)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PendingReviewItem>>> getPendingReviews(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        try {
+            CursorPageResponse<PendingReviewItem> reviews = applicationService.getPendingReviews(cursor, limit, includeTotal);
+            return ResponseEntity.ok(ApiResponse.success(reviews));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @GetMapping(value = "/admin/dashboard/pending-reviews/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Stream pending reviews", description = "Stream the full pending review queue as newline-delimited JSON (Admin only)")
+    public ResponseEntity<StreamingResponseBody> streamPendingReviews() {
+        StreamingResponseBody body = out -> {
+            long written = applicationService.writePendingReviews(out);
+            log.debug("Streamed {} pending reviews", written);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 }
@@ -1,16 +1,22 @@
 package com.tcon.careers.controller;
 
 import com.tcon.careers.dto.ApiResponse;
+import com.tcon.careers.dto.CursorPageResponse;
+import com.tcon.careers.dto.JobSummary;
 import com.tcon.careers.dto.PageResponse;
+import com.tcon.careers.dto.ResourceVersion;
+import com.tcon.careers.exception.ConcurrentUpdateException;
 import com.tcon.careers.model.Job;
 import com.tcon.careers.service.JobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import java.util.Map;
@@ -26,25 +32,58 @@ public class JobController {
 
     @GetMapping("/jobs")
     @Operation(summary = "Get all active job listings", description = "Fetch all active jobs with optional filters and pagination")
-    public ResponseEntity<ApiResponse<PageResponse<Job>>> getAllJobs(
+    public ResponseEntity<ApiResponse<PageResponse<JobSummary>>> getAllJobs(
             @RequestParam(required = false) String department,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String type,
             @RequestParam(required = false) String experience,
             @RequestParam(required = false) String search,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int limit
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest request
     ) {
-        PageResponse<Job> jobs = jobService.getAllActiveJobs(department, location, type, experience, search, page, limit);
-        return ResponseEntity.ok(ApiResponse.success(jobs));
+        ResourceVersion version = jobService.getCatalogVersion();
+        if (request.checkNotModified(version.getEtag(), version.getLastModifiedMillis())) {
+            return null;
+        }
+
+        PageResponse<JobSummary> jobs = jobService.getAllActiveJobs(department, location, type, experience, search, page, limit);
+        return conditional(version).body(ApiResponse.success(jobs));
+    }
+
+    @GetMapping("/jobs/cursor")
+    @Operation(summary = "Get active job listings by cursor", description = "Keyset pagination over active jobs ordered by posted date; pass nextCursor from the previous page to continue")
+    public ResponseEntity<ApiResponse<CursorPageResponse<JobSummary>>> getJobsByCursor(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String experience,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        try {
+            CursorPageResponse<JobSummary> jobs = jobService.getActiveJobsByCursor(
+                    department, location, type, experience, search, cursor, limit, includeTotal
+            );
+            return ResponseEntity.ok(ApiResponse.success(jobs));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
     }
 
     @GetMapping("/jobs/{id}")
     @Operation(summary = "Get job by ID", description = "Fetch a single job by its ID")
-    public ResponseEntity<ApiResponse<Job>> getJobById(@PathVariable String id) {
+    public ResponseEntity<ApiResponse<Job>> getJobById(@PathVariable String id, WebRequest request) {
         try {
-            Job job = jobService.getJobById(id);
-            return ResponseEntity.ok(ApiResponse.success(job));
+            Job job = jobService.getPublicJobById(id);
+            ResourceVersion version = jobService.getJobVersion(job);
+            if (request.checkNotModified(version.getEtag(), version.getLastModifiedMillis())) {
+                return null;
+            }
+            return conditional(version).body(ApiResponse.success(job));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.error(e.getMessage()));
@@ -53,9 +92,26 @@ public class JobController {
 
     @GetMapping("/jobs/stats")
     @Operation(summary = "Get job statistics", description = "Get aggregated statistics about jobs")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getJobStats() {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getJobStats(WebRequest request) {
+        ResourceVersion version = jobService.getCatalogVersion();
+        if (request.checkNotModified(version.getEtag(), version.getLastModifiedMillis())) {
+            return null;
+        }
+
         Map<String, Object> stats = jobService.getJobStats();
-        return ResponseEntity.ok(ApiResponse.success(stats));
+        return conditional(version).body(ApiResponse.success(stats));
+    }
+
+    @GetMapping("/admin/jobs")
+    // @PreAuthorize("hasRole('ADMIN')") // TODO: Enable for production
+    @Operation(summary = "Get all jobs for admin", description = "Fetch active and inactive jobs with their applicant counters (Admin only)")
+    public ResponseEntity<ApiResponse<PageResponse<Job>>> getAllJobsForAdmin(
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        PageResponse<Job> jobs = jobService.getAllJobsForAdmin(isActive, page, size);
+        return ResponseEntity.ok(ApiResponse.success(jobs));
     }
 
     @PostMapping("/admin/jobs")
@@ -83,6 +139,9 @@ public class JobController {
         try {
             Job updatedJob = jobService.updateJob(id, job);
             return ResponseEntity.ok(ApiResponse.success("Job updated successfully", updatedJob));
+        } catch (ConcurrentUpdateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.error(e.getMessage()));
@@ -122,4 +181,15 @@ public class JobController {
                     .body(ApiResponse.error(e.getMessage()));
         }
     }
+
+    // Let browsers and the CDN store the response but revalidate it with If-None-Match / If-Modified-Since
+    private ResponseEntity.BodyBuilder conditional(ResourceVersion version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .eTag(version.getEtag());
+        if (version.getLastModified() != null) {
+            builder.lastModified(version.getLastModified());
+        }
+        return builder;
+    }
 }
@@ -0,0 +1,30 @@
+package com.tcon.careers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationEvent {
+
+    public static final String APPLICATION_SUBMITTED = "application-submitted";
+    public static final String STATUS_CHANGED = "status-changed";
+    public static final String APPLICATION_DELETED = "application-deleted";
+
+    private String type;
+    private String applicationId;
+    private String jobId;
+    private String jobTitle;
+    private String department;
+    private String applicantName;
+    private String status;
+    private String previousStatus;
+    private LocalDateTime applicationDate;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,22 @@
+package com.tcon.careers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationFilter {
+    private String jobId;
+    private String status;
+    private String department;
+    private LocalDateTime dateFrom;
+    private LocalDateTime dateTo;
+    private String search;
+    private boolean includeArchived;
+}
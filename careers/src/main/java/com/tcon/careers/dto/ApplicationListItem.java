@@ -0,0 +1,52 @@
+package com.tcon.careers.dto;
+
+import com.tcon.careers.model.JobApplication;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationListItem {
+
+    // Fields fetched from Mongo for the admin applications table; keep in sync with the properties below
+    public static final String[] FIELDS = {
+            "applicationId", "jobId", "jobTitle", "department", "firstName", "lastName", "email", "phone",
+            "yearsOfExperience", "status", "applicationDate", "lastUpdated"
+    };
+
+    private String applicationId;
+    private String jobId;
+    private String jobTitle;
+    private String department;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private Integer yearsOfExperience;
+    private String status;
+    private LocalDateTime applicationDate;
+    private LocalDateTime lastUpdated;
+
+    public static ApplicationListItem from(JobApplication application) {
+        return ApplicationListItem.builder()
+                .applicationId(application.getApplicationId())
+                .jobId(application.getJobId())
+                .jobTitle(application.getJobTitle())
+                .department(application.getDepartment())
+                .firstName(application.getFirstName())
+                .lastName(application.getLastName())
+                .email(application.getEmail())
+                .phone(application.getPhone())
+                .yearsOfExperience(application.getYearsOfExperience())
+                .status(application.getStatus())
+                .applicationDate(application.getApplicationDate())
+                .lastUpdated(application.getLastUpdated())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.tcon.careers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationTracking {
+
+    // Fields fetched from Mongo for public tracking; keep in sync with the properties below
+    public static final String[] FIELDS = {
+            "applicationId", "jobTitle", "department", "status", "applicationDate", "lastUpdated"
+    };
+
+    private String applicationId;
+    private String jobTitle;
+    private String department;
+    private String status;
+    private LocalDateTime applicationDate;
+    private LocalDateTime lastUpdated;
+}
@@ -0,0 +1,27 @@
+package com.tcon.careers.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one application ID is required")
+    @Size(max = 1000, message = "At most 1000 applications can be updated at once")
+    private List<String> applicationIds;
+
+    @NotBlank(message = "Status is required")
+    private String status;
+
+    private String notes;
+}
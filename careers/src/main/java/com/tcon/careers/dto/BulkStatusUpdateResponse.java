@@ -0,0 +1,21 @@
+package com.tcon.careers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+    private String status;
+    private int requested;
+    private int updated;
+    private List<String> unchanged;
+    private List<String> notFound;
+    private List<String> failed;
+}
@@ -0,0 +1,20 @@
+package com.tcon.careers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int pageSize;
+    private String nextCursor;
+    private boolean hasMore;
+    private Long totalElements; // only populated when the caller asks for it
+}
@@ -0,0 +1,20 @@
+package com.tcon.careers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeltaExportWindow {
+    private String consumer;
+    // Exclusive lower bound on lastUpdated; null means from the beginning
+    private LocalDateTime since;
+    // Inclusive upper bound on lastUpdated, and the watermark for the next run
+    private LocalDateTime until;
+}
@@ -0,0 +1,21 @@
+package com.tcon.careers.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobRequest {
+
+    @NotBlank(message = "Format is required")
+    @Pattern(regexp = "csv|xlsx", message = "Format must be csv or xlsx")
+    private String format;
+
+    private ApplicationFilter filter;
+}
@@ -0,0 +1,45 @@
+package com.tcon.careers.dto;
+
+import com.tcon.careers.model.Job;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSummary {
+
+    // Fields fetched from Mongo for list responses; keep in sync with the properties below
+    public static final String[] FIELDS = {
+            "id", "title", "department", "location", "type", "salary", "experience", "color", "postedDate"
+    };
+
+    private String id;
+    private String title;
+    private String department;
+    private String location;
+    private String type;
+    private String salary;
+    private String experience;
+    private String color;
+    private LocalDateTime postedDate;
+
+    public static JobSummary from(Job job) {
+        return JobSummary.builder()
+                .id(job.getId())
+                .title(job.getTitle())
+                .department(job.getDepartment())
+                .location(job.getLocation())
+                .type(job.getType())
+                .salary(job.getSalary())
+                .experience(job.getExperience())
+                .color(job.getColor())
+                .postedDate(job.getPostedDate())
+                .build();
+    }
+}
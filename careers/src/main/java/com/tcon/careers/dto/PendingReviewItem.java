@@ -0,0 +1,33 @@
+package com.tcon.careers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingReviewItem {
+
+    // Fields fetched from Mongo for the review queue; keep in sync with the properties below
+    public static final String[] FIELDS = {
+            "applicationId", "jobId", "jobTitle", "department", "firstName", "lastName", "email",
+            "currentRole", "yearsOfExperience", "status", "applicationDate"
+    };
+
+    private String applicationId;
+    private String jobId;
+    private String jobTitle;
+    private String department;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String currentRole;
+    private Integer yearsOfExperience;
+    private String status;
+    private LocalDateTime applicationDate;
+}
@@ -0,0 +1,31 @@
+package com.tcon.careers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validators for conditional GET: a strong ETag plus the Last-Modified instant.
+ */
+@Data
+@AllArgsConstructor
+public class ResourceVersion {
+
+    private String etag;
+    private Instant lastModified;
+
+    public static ResourceVersion of(String key, LocalDateTime modifiedAt) {
+        Instant lastModified = modifiedAt != null ? modifiedAt.atZone(ZoneId.systemDefault()).toInstant() : null;
+        String digest = DigestUtils.md5DigestAsHex((key + ":" + lastModified).getBytes(StandardCharsets.UTF_8));
+        return new ResourceVersion("\"" + digest + "\"", lastModified);
+    }
+
+    public long getLastModifiedMillis() {
+        return lastModified != null ? lastModified.toEpochMilli() : -1;
+    }
+}
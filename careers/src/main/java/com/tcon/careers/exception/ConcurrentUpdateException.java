@@ -0,0 +1,12 @@
+package com.tcon.careers.exception;
+
+/**
+ * Thrown when an optimistic update keeps losing to concurrent writers, or when
+ * the caller edited a stale version. Controllers map it to 409 Conflict.
+ */
+public class ConcurrentUpdateException extends RuntimeException {
+
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+}
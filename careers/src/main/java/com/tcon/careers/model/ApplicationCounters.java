@@ -0,0 +1,42 @@
+package com.tcon.careers.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "application_counters")
+public class ApplicationCounters {
+
+    public static final String DASHBOARD_ID = "dashboard";
+
+    @Id
+    private String id;
+
+    @Builder.Default
+    private Long total = 0L;
+
+    @Builder.Default
+    private Map<String, Long> byStatus = new HashMap<>();
+
+    @Builder.Default
+    private Map<String, Long> byDepartment = new HashMap<>();
+
+    @Builder.Default
+    private Map<String, Long> byJob = new HashMap<>();
+
+    private LocalDateTime reconciledAt;
+
+    // Bumped with every counter update, so a rebuild can tell it counted a moving target
+    private Long revision;
+}
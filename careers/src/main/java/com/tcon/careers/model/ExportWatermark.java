@@ -0,0 +1,27 @@
+package com.tcon.careers.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "export_watermarks")
+public class ExportWatermark {
+
+    // Name of the downstream consumer, e.g. "hris"
+    @Id
+    private String consumer;
+
+    // Highest lastUpdated the consumer has acknowledged importing
+    private LocalDateTime watermark;
+
+    private LocalDateTime updatedAt;
+}
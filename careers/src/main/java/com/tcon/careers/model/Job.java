@@ -1,28 +1,45 @@
 package com.tcon.careers.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "jobs")
+@CompoundIndexes({
+        @CompoundIndex(name = "active_posted_id_idx", def = "{'isActive': 1, 'postedDate': -1, '_id': -1}"),
+        @CompoundIndex(name = "active_department_posted_idx", def = "{'isActive': 1, 'department': 1, 'postedDate': -1}"),
+        @CompoundIndex(name = "active_location_posted_idx", def = "{'isActive': 1, 'location': 1, 'postedDate': -1}"),
+        @CompoundIndex(name = "active_type_posted_idx", def = "{'isActive': 1, 'type': 1, 'postedDate': -1}"),
+        @CompoundIndex(name = "active_experience_posted_idx", def = "{'isActive': 1, 'experience': 1, 'postedDate': -1}")
+})
 public class Job {
 
     @Id
     private String id;
 
+    @Version
+    private Long version;
+
+    // title, description and requirements make up the job_text_idx text index (JobRepositoryCustomImpl)
     @NotBlank(message = "Title is required")
     @Indexed
     private String title;
@@ -61,6 +78,17 @@ public class Job {
 
     private LocalDateTime closingDate;
 
+    // Applicant counters, maintained with $inc by the application service
+    @Builder.Default
+    private Long applicationCount = 0L;
+
+    @Builder.Default
+    private Map<String, Long> applicationsByStatus = new HashMap<>();
+
+    // Bumped with every applicant counter update, so a reconciliation can tell it counted a moving target
+    @JsonIgnore
+    private Long countersRevision;
+
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
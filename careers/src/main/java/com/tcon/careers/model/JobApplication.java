@@ -1,10 +1,14 @@
 package com.tcon.careers.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -21,12 +25,27 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "job_applications")
+@CompoundIndexes({
+        @CompoundIndex(name = "application_date_id_idx", def = "{'applicationDate': -1, '_id': -1}"),
+        @CompoundIndex(name = "job_status_date_idx", def = "{'jobId': 1, 'status': 1, 'applicationDate': -1}"),
+        @CompoundIndex(name = "job_date_idx", def = "{'jobId': 1, 'applicationDate': -1}"),
+        @CompoundIndex(name = "status_date_id_idx", def = "{'status': 1, 'applicationDate': -1, '_id': -1}"),
+        @CompoundIndex(name = "department_date_idx", def = "{'department': 1, 'applicationDate': -1}"),
+        @CompoundIndex(name = "status_updated_idx", def = "{'status': 1, 'lastUpdated': 1}"),
+        @CompoundIndex(name = "last_updated_id_idx", def = "{'lastUpdated': 1, '_id': 1}")
+})
 public class JobApplication {
 
+    // Closed applications are moved here by ApplicationArchiveService
+    public static final String ARCHIVE_COLLECTION = "job_applications_archive";
+
     @Id
     @Builder.Default
     private String applicationId = UUID.randomUUID().toString();
 
+    @Version
+    private Long version;
+
     // Job Reference
     @NotBlank(message = "Job ID is required")
     @Indexed
@@ -50,6 +69,11 @@ public class JobApplication {
     @NotBlank(message = "Phone is required")
     private String phone;
 
+    // Lowercased name and email prefixes, maintained at write time for indexed admin search
+    @JsonIgnore
+    @Indexed
+    private List<String> searchTokens;
+
     private String linkedinUrl;
     private String portfolioUrl;
     private String githubUrl;
@@ -134,6 +158,8 @@ public class JobApplication {
         @Builder.Default
         private LocalDateTime changedAt = LocalDateTime.now();
         private String notes;
+        // Unique per bulk change, so each application can tell whether that write reached it
+        private String changeId;
     }
 
     @Data
@@ -0,0 +1,9 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.model.ApplicationCounters;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ApplicationCountersRepository extends MongoRepository<ApplicationCounters, String>, ApplicationCountersRepositoryCustom {
+}
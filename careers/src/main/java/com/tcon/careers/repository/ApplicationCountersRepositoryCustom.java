@@ -0,0 +1,24 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.model.ApplicationCounters;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ApplicationCountersRepositoryCustom {
+
+    void increment(String status, String department, String jobId, long delta);
+
+    void moveStatus(String fromStatus, String toStatus);
+
+    void applyDeltas(long totalDelta, Map<String, Long> byStatus, Map<String, Long> byDepartment,
+                     Map<String, Long> byJob);
+
+    /**
+     * Recounts the dashboard document from job_applications. Throws
+     * OptimisticLockingFailureException when a counter update landed while counting.
+     */
+    ApplicationCounters rebuildFromApplications();
+
+    Map<String, Map<String, Long>> countApplicationsByJobAndStatus(Collection<String> jobIds);
+}
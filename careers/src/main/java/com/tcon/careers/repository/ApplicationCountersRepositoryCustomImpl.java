@@ -0,0 +1,195 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.model.ApplicationCounters;
+import com.tcon.careers.model.JobApplication;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ApplicationCountersRepositoryCustomImpl implements ApplicationCountersRepositoryCustom {
+
+    private static final String UNKNOWN = "unknown";
+    private static final String REVISION = "revision";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void increment(String status, String department, String jobId, long delta) {
+        Update update = new Update()
+                .inc("total", delta)
+                .inc("byStatus." + key(status), delta)
+                .inc("byDepartment." + key(department), delta)
+                .inc("byJob." + key(jobId), delta)
+                .inc(REVISION, 1);
+        mongoTemplate.upsert(dashboardQuery(), update, ApplicationCounters.class);
+    }
+
+    @Override
+    public void moveStatus(String fromStatus, String toStatus) {
+        Update update = new Update()
+                .inc("byStatus." + key(fromStatus), -1)
+                .inc("byStatus." + key(toStatus), 1)
+                .inc(REVISION, 1);
+        mongoTemplate.upsert(dashboardQuery(), update, ApplicationCounters.class);
+    }
+
+    @Override
+    public void applyDeltas(long totalDelta, Map<String, Long> byStatus, Map<String, Long> byDepartment,
+                            Map<String, Long> byJob) {
+        Update update = new Update();
+        if (totalDelta != 0) {
+            update.inc("total", totalDelta);
+        }
+        keyed(byStatus).forEach((status, delta) -> update.inc("byStatus." + status, delta));
+        keyed(byDepartment).forEach((department, delta) -> update.inc("byDepartment." + department, delta));
+        keyed(byJob).forEach((jobId, delta) -> update.inc("byJob." + jobId, delta));
+        if (update.getUpdateObject().isEmpty()) {
+            return;
+        }
+        update.inc(REVISION, 1);
+        mongoTemplate.upsert(dashboardQuery(), update, ApplicationCounters.class);
+    }
+
+    @Override
+    public ApplicationCounters rebuildFromApplications() {
+        // Read the revision before counting: any $inc that lands while the count runs bumps it and voids this write
+        ApplicationCounters current = mongoTemplate.findOne(dashboardQuery(), ApplicationCounters.class);
+        Long revision = current != null ? current.getRevision() : null;
+
+        Aggregation hot = Aggregation.newAggregation(Aggregation.match(notBeingArchived()), counterFacets());
+        Aggregation archived = Aggregation.newAggregation(counterFacets());
+        List<Document> results = new ArrayList<>();
+        results.add(mongoTemplate.aggregate(hot, JobApplication.class, Document.class).getUniqueMappedResult());
+        results.add(mongoTemplate.aggregate(archived, JobApplication.ARCHIVE_COLLECTION, Document.class)
+                .getUniqueMappedResult());
+
+        long total = 0;
+        Map<String, Long> byStatus = new HashMap<>();
+        Map<String, Long> byDepartment = new HashMap<>();
+        Map<String, Long> byJob = new HashMap<>();
+        for (Document result : results) {
+            if (result == null) {
+                continue;
+            }
+            List<Document> count = result.getList("total", Document.class, List.of());
+            total += count.isEmpty() ? 0L : ((Number) count.get(0).get("count")).longValue();
+            addGroupCounts(result, "byStatus", byStatus);
+            addGroupCounts(result, "byDepartment", byDepartment);
+            addGroupCounts(result, "byJob", byJob);
+        }
+        ApplicationCounters counters = ApplicationCounters.builder()
+                .id(ApplicationCounters.DASHBOARD_ID)
+                .total(total)
+                .byStatus(byStatus)
+                .byDepartment(byDepartment)
+                .byJob(byJob)
+                .reconciledAt(LocalDateTime.now())
+                .revision(revision != null ? revision + 1 : 1L)
+                .build();
+
+        if (current == null) {
+            try {
+                return mongoTemplate.insert(counters);
+            } catch (DuplicateKeyException e) {
+                throw new OptimisticLockingFailureException("Dashboard counters were created while rebuilding", e);
+            }
+        }
+        Query unchanged = dashboardQuery().addCriteria(Criteria.where(REVISION).is(revision));
+        Update update = new Update()
+                .set("total", counters.getTotal())
+                .set("byStatus", counters.getByStatus())
+                .set("byDepartment", counters.getByDepartment())
+                .set("byJob", counters.getByJob())
+                .set("reconciledAt", counters.getReconciledAt())
+                .set(REVISION, counters.getRevision());
+        if (mongoTemplate.updateFirst(unchanged, update, ApplicationCounters.class).getMatchedCount() == 0) {
+            throw new OptimisticLockingFailureException("Dashboard counters changed while rebuilding");
+        }
+        return counters;
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> countApplicationsByJobAndStatus(Collection<String> jobIds) {
+        Aggregation hot = Aggregation.newAggregation(
+                Aggregation.match(new Criteria().andOperator(Criteria.where("jobId").in(jobIds), notBeingArchived())),
+                Aggregation.group("jobId", "status").count().as("count")
+        );
+        Aggregation archived = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("jobId").in(jobIds)),
+                Aggregation.group("jobId", "status").count().as("count")
+        );
+
+        Map<String, Map<String, Long>> counts = new HashMap<>();
+        addJobCounts(mongoTemplate.aggregate(hot, JobApplication.class, Document.class), counts);
+        addJobCounts(mongoTemplate.aggregate(archived, JobApplication.ARCHIVE_COLLECTION, Document.class), counts);
+        return counts;
+    }
+
+    private void addJobCounts(Iterable<Document> buckets, Map<String, Map<String, Long>> counts) {
+        for (Document bucket : buckets) {
+            Document group = bucket.get("_id", Document.class);
+            String jobId = group.getString("jobId");
+            if (jobId != null) {
+                counts.computeIfAbsent(jobId, k -> new HashMap<>())
+                        .merge(key(group.getString("status")), ((Number) bucket.get("count")).longValue(), Long::sum);
+            }
+        }
+    }
+
+    private FacetOperation counterFacets() {
+        return Aggregation.facet(Aggregation.count().as("count")).as("total")
+                .and(Aggregation.group("status").count().as("count")).as("byStatus")
+                .and(Aggregation.group("department").count().as("count")).as("byDepartment")
+                .and(Aggregation.group("jobId").count().as("count")).as("byJob");
+    }
+
+    private void addGroupCounts(Document result, String facet, Map<String, Long> counts) {
+        for (Document bucket : result.getList(facet, Document.class, List.of())) {
+            Object group = bucket.get("_id");
+            counts.merge(key(group != null ? group.toString() : null),
+                    ((Number) bucket.get("count")).longValue(), Long::sum);
+        }
+    }
+
+    // Archived applications stay counted. A claimed hot row is being moved and is counted through
+    // its archived copy instead, so a row caught between the copy and the delete is not counted twice.
+    private Criteria notBeingArchived() {
+        return Criteria.where(JobApplicationRepositoryCustomImpl.ARCHIVE_CLAIM).exists(false);
+    }
+
+    private Query dashboardQuery() {
+        return new Query(Criteria.where("id").is(ApplicationCounters.DASHBOARD_ID));
+    }
+
+    // Map keys become field names, so strip characters Mongo does not allow there
+    static String key(String value) {
+        if (value == null || value.isEmpty()) {
+            return UNKNOWN;
+        }
+        String sanitized = value.replace('.', '_');
+        return sanitized.startsWith("$") ? "_" + sanitized.substring(1) : sanitized;
+    }
+
+    // Several raw values can sanitize to the same field, and a second $inc on a field would replace the first
+    static Map<String, Long> keyed(Map<String, Long> deltas) {
+        Map<String, Long> keyed = new HashMap<>();
+        deltas.forEach((value, delta) -> keyed.merge(key(value), delta, Long::sum));
+        keyed.values().removeIf(delta -> delta == 0);
+        return keyed;
+    }
+}
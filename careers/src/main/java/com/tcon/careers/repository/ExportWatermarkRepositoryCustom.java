@@ -0,0 +1,10 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.model.ExportWatermark;
+
+import java.time.LocalDateTime;
+
+public interface ExportWatermarkRepositoryCustom {
+
+    ExportWatermark advance(String consumer, LocalDateTime watermark);
+}
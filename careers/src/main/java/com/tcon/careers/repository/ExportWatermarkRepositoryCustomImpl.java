@@ -0,0 +1,28 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.model.ExportWatermark;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class ExportWatermarkRepositoryCustomImpl implements ExportWatermarkRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public ExportWatermark advance(String consumer, LocalDateTime watermark) {
+        // $max in one upsert: concurrent acknowledgements can only move the watermark forward
+        Query query = new Query(Criteria.where("consumer").is(consumer));
+        Update update = new Update()
+                .max("watermark", watermark)
+                .set("updatedAt", LocalDateTime.now());
+        return mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), ExportWatermark.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.dto.ApplicationFilter;
+import com.tcon.careers.dto.ApplicationListItem;
+import com.tcon.careers.dto.ApplicationTracking;
+import com.tcon.careers.dto.PageCursor;
+import com.tcon.careers.dto.PendingReviewItem;
+import com.tcon.careers.model.JobApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface JobApplicationRepositoryCustom {
+
+    Page<ApplicationListItem> findApplications(ApplicationFilter filter, Pageable pageable);
+
+    List<ApplicationListItem> findApplicationsAfter(ApplicationFilter filter, PageCursor after, int limit);
+
+    long countApplications(ApplicationFilter filter);
+
+    Stream<JobApplication> streamApplications(ApplicationFilter filter, String... fields);
+
+    Stream<JobApplication> streamApplications(ApplicationFilter filter, LocalDateTime from, LocalDateTime until,
+                                              String... fields);
+
+    Stream<JobApplication> streamUndatedApplications(ApplicationFilter filter, String... fields);
+
+    Stream<JobApplication> streamUpdatedBetween(LocalDateTime after, LocalDateTime until, String... fields);
+
+    LocalDateTime currentServerTime();
+
+    /**
+     * Inserts a new application with lastUpdated stamped by the database clock.
+     */
+    JobApplication insertWithServerTimestamp(JobApplication application);
+
+    Optional<Range<LocalDateTime>> findApplicationDateRange(ApplicationFilter filter);
+
+    Optional<JobApplication> findArchivedById(String applicationId);
+
+    Optional<ApplicationTracking> findArchivedTracking(String applicationId);
+
+    /**
+     * Removes the hot row whatever its version and returns it as it was removed.
+     */
+    Optional<JobApplication> removeByApplicationId(String applicationId);
+
+    Optional<JobApplication> removeArchived(String applicationId);
+
+    List<JobApplication> findArchivable(Collection<String> statuses, LocalDateTime updatedBefore, int limit);
+
+    List<JobApplication> moveToArchive(List<JobApplication> applications);
+
+    void ensureArchiveIndexes();
+
+    List<PendingReviewItem> findPendingReviewsAfter(PageCursor after, int limit);
+
+    long countPendingReviews();
+
+    Stream<PendingReviewItem> streamPendingReviews();
+
+    Optional<ApplicationTracking> findTracking(String applicationId);
+
+    List<JobApplication> findStatusViews(Collection<String> applicationIds);
+
+    /**
+     * Applies the status change unconditionally and returns the status view as it was before it.
+     */
+    Optional<JobApplication> applyStatusChange(String applicationId, JobApplication.StatusHistory entry,
+                                               JobApplication.InterviewSchedule interview);
+
+    int applyStatusChanges(Map<String, Long> expectedVersions, JobApplication.StatusHistory entry);
+
+    Set<String> findWithStatusChange(Collection<String> applicationIds, String changeId);
+
+    Optional<JobApplication> pushAdminNote(String applicationId, JobApplication.AdminNote note);
+
+    List<JobApplication> findWithoutSearchTokens(int limit);
+
+    void setSearchTokens(Map<String, List<String>> tokensByApplicationId);
+}
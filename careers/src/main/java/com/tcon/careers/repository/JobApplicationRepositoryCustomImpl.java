@@ -0,0 +1,591 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.dto.ApplicationFilter;
+import com.tcon.careers.dto.ApplicationListItem;
+import com.tcon.careers.dto.ApplicationTracking;
+import com.tcon.careers.dto.PageCursor;
+import com.tcon.careers.dto.PendingReviewItem;
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.service.ApplicantSearchTokens;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class JobApplicationRepositoryCustomImpl implements JobApplicationRepositoryCustom {
+
+    private static final List<String> PENDING_REVIEW_STATUSES = List.of("submitted", "screening");
+
+    // Set on hot rows while an archive run is moving them, and kept on the archived copy
+    static final String ARCHIVE_CLAIM = "archiveClaim";
+    private static final String ARCHIVE_CLAIMED_AT = "archiveClaimedAt";
+    private static final Duration ARCHIVE_CLAIM_LEASE = Duration.ofHours(1);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Page<ApplicationListItem> findApplications(ApplicationFilter filter, Pageable pageable) {
+        if (includesArchive(filter)) {
+            List<ApplicationListItem> applications = findListItemsWithArchive(filter, null,
+                    pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+            return PageableExecutionUtils.getPage(applications, pageable, () -> countApplications(filter));
+        }
+
+        Query query = buildQuery(filter);
+        List<ApplicationListItem> applications = findListItems(Query.of(query).with(pageable));
+        return PageableExecutionUtils.getPage(applications, pageable,
+                () -> mongoTemplate.count(query, JobApplication.class));
+    }
+
+    @Override
+    public List<ApplicationListItem> findApplicationsAfter(ApplicationFilter filter, PageCursor after, int limit) {
+        if (includesArchive(filter)) {
+            return findListItemsWithArchive(filter, after,
+                    Sort.by(Sort.Direction.DESC, "applicationDate", "applicationId"), 0, limit);
+        }
+
+        Query query = buildQuery(filter);
+        if (after != null) {
+            query.addCriteria(keysetAfter(after));
+        }
+        query.with(Sort.by(Sort.Direction.DESC, "applicationDate", "applicationId")).limit(limit);
+        return findListItems(query);
+    }
+
+    @Override
+    public long countApplications(ApplicationFilter filter) {
+        Query query = buildQuery(filter);
+        long count = mongoTemplate.count(query, JobApplication.class);
+        if (includesArchive(filter)) {
+            count += mongoTemplate.count(query, JobApplication.class, JobApplication.ARCHIVE_COLLECTION);
+        }
+        return count;
+    }
+
+    @Override
+    public Stream<JobApplication> streamApplications(ApplicationFilter filter, String... fields) {
+        return streamApplications(filter, null, null, fields);
+    }
+
+    @Override
+    public Stream<JobApplication> streamApplications(ApplicationFilter filter, LocalDateTime from, LocalDateTime until,
+                                                     String... fields) {
+        Criteria window = null;
+        if (from != null && until != null) {
+            // Half-open window [from, until); wrapped in $and so it can sit next to the filter's own date range
+            window = new Criteria().andOperator(
+                    Criteria.where("applicationDate").gte(from),
+                    Criteria.where("applicationDate").lt(until));
+        }
+        return streamApplications(filter, window, fields);
+    }
+
+    @Override
+    public Stream<JobApplication> streamUndatedApplications(ApplicationFilter filter, String... fields) {
+        // Rows without an applicationDate fall outside every date window
+        return streamApplications(filter, Criteria.where("applicationDate").is(null), fields);
+    }
+
+    private Stream<JobApplication> streamApplications(ApplicationFilter filter, Criteria window, String... fields) {
+        // Backed by server cursors, newest first per collection; the caller must close the stream
+        Query query = buildQuery(filter).with(Sort.by(Sort.Direction.DESC, "applicationDate", "applicationId"));
+        if (window != null) {
+            query.addCriteria(window);
+        }
+        if (fields.length > 0) {
+            query.fields().include(fields);
+        }
+        if (!includesArchive(filter)) {
+            return mongoTemplate.stream(query, JobApplication.class);
+        }
+        // Each cursor opens only when the previous one is drained, so the archive cursor cannot sit idle and
+        // time out behind a long hot export; flatMap closes each stream once read, or when the caller closes early
+        Query archiveQuery = Query.of(query);
+        return Stream.<Supplier<Stream<JobApplication>>>of(
+                () -> mongoTemplate.stream(query, JobApplication.class),
+                () -> mongoTemplate.stream(archiveQuery, JobApplication.class, JobApplication.ARCHIVE_COLLECTION))
+                .flatMap(Supplier::get);
+    }
+
+    @Override
+    public Stream<JobApplication> streamUpdatedBetween(LocalDateTime after, LocalDateTime until, String... fields) {
+        // Served by last_updated_id_idx; the caller must close the stream
+        Criteria window = Criteria.where("lastUpdated").lte(until);
+        if (after != null) {
+            window.gt(after);
+        }
+        Query query = new Query(window).with(Sort.by(Sort.Direction.ASC, "lastUpdated", "applicationId"));
+        if (fields.length > 0) {
+            query.fields().include(fields);
+        }
+        return mongoTemplate.stream(query, JobApplication.class);
+    }
+
+    @Override
+    public LocalDateTime currentServerTime() {
+        // Updates stamp lastUpdated with $currentDate, so delta windows are cut on the database clock too
+        Date localTime = mongoTemplate.executeCommand(new Document("hello", 1)).getDate("localTime");
+        return localTime != null
+                ? LocalDateTime.ofInstant(localTime.toInstant(), ZoneId.systemDefault())
+                : LocalDateTime.now();
+    }
+
+    @Override
+    public JobApplication insertWithServerTimestamp(JobApplication application) {
+        // Same $currentDate stamp as every later update, so a fast application clock cannot
+        // put a new row past a delta watermark that is already acknowledged
+        application.setVersion(0L);
+        application.setLastUpdated(null);
+        Document document = new Document();
+        mongoTemplate.getConverter().write(application, document);
+        document.remove("_id");
+
+        Update update = new Update().currentDate("lastUpdated");
+        document.forEach(update::setOnInsert);
+        return mongoTemplate.findAndModify(byId(application.getApplicationId()), update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), JobApplication.class);
+    }
+
+    @Override
+    public Optional<Range<LocalDateTime>> findApplicationDateRange(ApplicationFilter filter) {
+        LocalDateTime earliest = null;
+        LocalDateTime latest = null;
+        List<String> collections = includesArchive(filter)
+                ? List.of(mongoTemplate.getCollectionName(JobApplication.class), JobApplication.ARCHIVE_COLLECTION)
+                : List.of(mongoTemplate.getCollectionName(JobApplication.class));
+        for (String collection : collections) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                Query query = buildQuery(filter).with(Sort.by(direction, "applicationDate")).limit(1);
+                query.fields().include("applicationDate");
+                JobApplication bound = mongoTemplate.findOne(query, JobApplication.class, collection);
+                if (bound == null || bound.getApplicationDate() == null) {
+                    continue;
+                }
+                LocalDateTime date = bound.getApplicationDate();
+                if (earliest == null || date.isBefore(earliest)) {
+                    earliest = date;
+                }
+                if (latest == null || date.isAfter(latest)) {
+                    latest = date;
+                }
+            }
+        }
+        return earliest == null ? Optional.empty() : Optional.of(Range.closed(earliest, latest));
+    }
+
+    @Override
+    public Optional<JobApplication> findArchivedById(String applicationId) {
+        return Optional.ofNullable(mongoTemplate.findOne(byId(applicationId), JobApplication.class,
+                JobApplication.ARCHIVE_COLLECTION));
+    }
+
+    @Override
+    public Optional<ApplicationTracking> findArchivedTracking(String applicationId) {
+        Query query = byId(applicationId);
+        query.fields().include(ApplicationTracking.FIELDS);
+        return mongoTemplate.query(JobApplication.class).inCollection(JobApplication.ARCHIVE_COLLECTION)
+                .as(ApplicationTracking.class).matching(query).one();
+    }
+
+    @Override
+    public Optional<JobApplication> removeByApplicationId(String applicationId) {
+        return Optional.ofNullable(mongoTemplate.findAndRemove(byId(applicationId), JobApplication.class));
+    }
+
+    @Override
+    public Optional<JobApplication> removeArchived(String applicationId) {
+        return Optional.ofNullable(mongoTemplate.findAndRemove(byId(applicationId), JobApplication.class,
+                JobApplication.ARCHIVE_COLLECTION));
+    }
+
+    @Override
+    public List<JobApplication> findArchivable(Collection<String> statuses, LocalDateTime updatedBefore, int limit) {
+        Query query = new Query(Criteria.where("status").in(statuses).and("lastUpdated").lt(updatedBefore))
+                .with(Sort.by(Sort.Direction.ASC, "lastUpdated"))
+                .limit(limit);
+        return mongoTemplate.find(query, JobApplication.class);
+    }
+
+    @Override
+    public List<JobApplication> moveToArchive(List<JobApplication> applications) {
+        if (applications.isEmpty()) {
+            return applications;
+        }
+
+        // Claim the batch first so overlapping runs (cron, manual trigger, other instances) never move the same row
+        String claim = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations claimOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobApplication.class);
+        for (JobApplication application : applications) {
+            claimOps.updateOne(byId(application.getApplicationId())
+                            .addCriteria(Criteria.where("version").is(application.getVersion()))
+                            .addCriteria(new Criteria().orOperator(
+                                    Criteria.where(ARCHIVE_CLAIM).exists(false),
+                                    // A run that died mid-batch must not pin its rows forever
+                                    Criteria.where(ARCHIVE_CLAIMED_AT).lt(now.minus(ARCHIVE_CLAIM_LEASE)))),
+                    new Update().set(ARCHIVE_CLAIM, claim).set(ARCHIVE_CLAIMED_AT, now));
+        }
+        claimOps.execute();
+
+        Query claimedQuery = new Query(Criteria.where(ARCHIVE_CLAIM).is(claim));
+        claimedQuery.fields().include("applicationId");
+        Set<String> claimedIds = new HashSet<>();
+        for (JobApplication application : mongoTemplate.find(claimedQuery, JobApplication.class)) {
+            claimedIds.add(application.getApplicationId());
+        }
+        List<JobApplication> claimed = applications.stream()
+                .filter(application -> claimedIds.contains(application.getApplicationId()))
+                .toList();
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+
+        // Copy first so a crash in between leaves a duplicate rather than a lost application.
+        // The copy carries the claim so only this run can take it back.
+        BulkOperations copy = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                JobApplication.class, JobApplication.ARCHIVE_COLLECTION);
+        for (JobApplication application : claimed) {
+            Document document = new Document();
+            mongoTemplate.getConverter().write(application, document);
+            document.put(ARCHIVE_CLAIM, claim);
+            copy.replaceOne(byId(application.getApplicationId()), document, FindAndReplaceOptions.options().upsert());
+        }
+        copy.execute();
+
+        // Per row, so "moved" means removed by this call; anything updated or deleted since the read stays out
+        List<JobApplication> moved = new ArrayList<>(claimed.size());
+        List<String> notMoved = new ArrayList<>();
+        for (JobApplication application : claimed) {
+            Query hot = byId(application.getApplicationId())
+                    .addCriteria(Criteria.where("version").is(application.getVersion()))
+                    .addCriteria(Criteria.where(ARCHIVE_CLAIM).is(claim));
+            if (mongoTemplate.findAndRemove(hot, JobApplication.class) != null) {
+                moved.add(application);
+            } else {
+                notMoved.add(application.getApplicationId());
+            }
+        }
+
+        if (!notMoved.isEmpty()) {
+            // Drop this run's copies of rows it did not remove, including ones deleted meanwhile, and release the claim
+            Query ours = new Query(Criteria.where("applicationId").in(notMoved).and(ARCHIVE_CLAIM).is(claim));
+            mongoTemplate.remove(ours, JobApplication.class, JobApplication.ARCHIVE_COLLECTION);
+            mongoTemplate.updateMulti(ours, new Update().unset(ARCHIVE_CLAIM).unset(ARCHIVE_CLAIMED_AT),
+                    JobApplication.class);
+        }
+        return moved;
+    }
+
+    @Override
+    public void ensureArchiveIndexes() {
+        // The archive is not a mapped @Document, so it does not get the annotated indexes automatically
+        IndexOperations indexOps = mongoTemplate.indexOps(JobApplication.ARCHIVE_COLLECTION);
+        indexOps.createIndex(new Index().named("application_date_id_idx")
+                .on("applicationDate", Sort.Direction.DESC).on("_id", Sort.Direction.DESC));
+        indexOps.createIndex(new Index().named("job_date_idx")
+                .on("jobId", Sort.Direction.ASC).on("applicationDate", Sort.Direction.DESC));
+        indexOps.createIndex(new Index().named("status_date_id_idx")
+                .on("status", Sort.Direction.ASC).on("applicationDate", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC));
+        indexOps.createIndex(new Index().named("department_date_idx")
+                .on("department", Sort.Direction.ASC).on("applicationDate", Sort.Direction.DESC));
+        indexOps.createIndex(new Index().named("searchTokens").on("searchTokens", Sort.Direction.ASC));
+    }
+
+    @Override
+    public List<PendingReviewItem> findPendingReviewsAfter(PageCursor after, int limit) {
+        Query query = pendingReviewQuery();
+        if (after != null) {
+            query.addCriteria(keysetAfterAscending(after));
+        }
+        query.limit(limit);
+        return mongoTemplate.query(JobApplication.class).as(PendingReviewItem.class).matching(query).all();
+    }
+
+    @Override
+    public long countPendingReviews() {
+        return mongoTemplate.count(new Query(pendingReviewCriteria()), JobApplication.class);
+    }
+
+    @Override
+    public Stream<PendingReviewItem> streamPendingReviews() {
+        // Backed by a server cursor; the caller must close the stream
+        return mongoTemplate.query(JobApplication.class).as(PendingReviewItem.class)
+                .matching(pendingReviewQuery()).stream();
+    }
+
+    @Override
+    public Optional<ApplicationTracking> findTracking(String applicationId) {
+        Query query = byId(applicationId);
+        query.fields().include(ApplicationTracking.FIELDS);
+        return mongoTemplate.query(JobApplication.class).as(ApplicationTracking.class).matching(query).one();
+    }
+
+    @Override
+    public List<JobApplication> findStatusViews(Collection<String> applicationIds) {
+        Query query = new Query(Criteria.where("applicationId").in(applicationIds));
+        includeStatusViewFields(query);
+        return mongoTemplate.find(query, JobApplication.class);
+    }
+
+    @Override
+    public Optional<JobApplication> applyStatusChange(String applicationId, JobApplication.StatusHistory entry,
+                                                      JobApplication.InterviewSchedule interview) {
+        // One atomic write; the pre-image it returns carries the status this change replaced
+        Query query = byId(applicationId);
+        // Callers only need the status view back, not the cover letter, history and notes
+        includeStatusViewFields(query);
+        Update update = new Update()
+                .inc("version", 1)
+                .set("status", entry.getStatus())
+                .currentDate("lastUpdated")
+                .push("statusHistory", entry);
+        if (interview != null) {
+            update.push("interviewSchedule", interview);
+        }
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(false), JobApplication.class));
+    }
+
+    @Override
+    public int applyStatusChanges(Map<String, Long> expectedVersions, JobApplication.StatusHistory entry) {
+        if (expectedVersions.isEmpty()) {
+            return 0;
+        }
+        // One round trip for the whole batch; each update carries its own version precondition
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobApplication.class);
+        expectedVersions.forEach((applicationId, expectedVersion) -> bulk.updateOne(
+                byId(applicationId).addCriteria(Criteria.where("version").is(expectedVersion)),
+                new Update()
+                        .inc("version", 1)
+                        .set("status", entry.getStatus())
+                        .currentDate("lastUpdated")
+                        .push("statusHistory", entry)));
+        return bulk.execute().getModifiedCount();
+    }
+
+    @Override
+    public Set<String> findWithStatusChange(Collection<String> applicationIds, String changeId) {
+        // The version alone cannot say which write bumped it; the pushed entry's changeId can
+        Query query = new Query(Criteria.where("applicationId").in(applicationIds)
+                .and("statusHistory.changeId").is(changeId));
+        query.fields().include("applicationId");
+        Set<String> found = new HashSet<>();
+        for (JobApplication application : mongoTemplate.find(query, JobApplication.class)) {
+            found.add(application.getApplicationId());
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<JobApplication> pushAdminNote(String applicationId, JobApplication.AdminNote note) {
+        // $push cannot lose concurrent notes, so no version precondition; still bump it for other writers
+        Update update = new Update()
+                .inc("version", 1)
+                .currentDate("lastUpdated")
+                .push("adminNotes", note);
+        // Return the note just added rather than the whole document and every earlier note
+        Query query = byId(applicationId);
+        query.fields().include("applicationId", "version", "status", "lastUpdated").slice("adminNotes", -1);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), JobApplication.class));
+    }
+
+    @Override
+    public List<JobApplication> findWithoutSearchTokens(int limit) {
+        Query query = new Query(Criteria.where("searchTokens").exists(false)).limit(limit);
+        query.fields().include("applicationId", "firstName", "lastName", "email");
+        return mongoTemplate.find(query, JobApplication.class);
+    }
+
+    @Override
+    public void setSearchTokens(Map<String, List<String>> tokensByApplicationId) {
+        if (tokensByApplicationId.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobApplication.class);
+        tokensByApplicationId.forEach((applicationId, tokens) -> bulk.updateOne(
+                new Query(Criteria.where("applicationId").is(applicationId)),
+                new Update().set("searchTokens", tokens)));
+        bulk.execute();
+    }
+
+    private List<ApplicationListItem> findListItemsWithArchive(ApplicationFilter filter, PageCursor after,
+                                                               Sort sort, long skip, int limit) {
+        Criteria criteria = toCriteria(filter);
+        if (after != null) {
+            criteria = new Criteria().andOperator(criteria, keysetAfter(after));
+        }
+
+        // Each side returns at most skip + limit rows in index order before the merged sort
+        long window = skip + limit;
+        List<AggregationOperation> pipeline = new ArrayList<>();
+        pipeline.add(Aggregation.match(criteria));
+        pipeline.add(Aggregation.sort(sort));
+        pipeline.add(Aggregation.limit(window));
+        pipeline.add(UnionWithOperation.unionWith(JobApplication.ARCHIVE_COLLECTION)
+                .pipeline(Aggregation.match(criteria), Aggregation.sort(sort), Aggregation.limit(window),
+                        Aggregation.project(ApplicationListItem.FIELDS))
+                .mapFieldsTo(JobApplication.class));
+        pipeline.add(Aggregation.sort(sort));
+        if (skip > 0) {
+            pipeline.add(Aggregation.skip(skip));
+        }
+        pipeline.add(Aggregation.limit(limit));
+        pipeline.add(Aggregation.project(ApplicationListItem.FIELDS));
+
+        List<ApplicationListItem> items = new ArrayList<>(limit);
+        for (JobApplication application : mongoTemplate.aggregate(Aggregation.newAggregation(pipeline),
+                JobApplication.class, JobApplication.class)) {
+            items.add(ApplicationListItem.from(application));
+        }
+        return items;
+    }
+
+    private List<ApplicationListItem> findListItems(Query query) {
+        query.fields().include(ApplicationListItem.FIELDS);
+        return mongoTemplate.query(JobApplication.class).as(ApplicationListItem.class).matching(query).all();
+    }
+
+    private void includeStatusViewFields(Query query) {
+        query.fields().include("applicationId", "version", "jobId", "jobTitle", "department", "status",
+                "email", "firstName", "lastName", "applicationDate");
+    }
+
+    private Criteria pendingReviewCriteria() {
+        return Criteria.where("status").in(PENDING_REVIEW_STATUSES);
+    }
+
+    private Query pendingReviewQuery() {
+        // Oldest first, so the queue is worked in arrival order
+        Query query = new Query(pendingReviewCriteria())
+                .with(Sort.by(Sort.Direction.ASC, "applicationDate", "applicationId"));
+        query.fields().include(PendingReviewItem.FIELDS);
+        return query;
+    }
+
+    private Query byId(String applicationId) {
+        return new Query(Criteria.where("applicationId").is(applicationId));
+    }
+
+    private Query buildQuery(ApplicationFilter filter) {
+        Query query = new Query();
+        filterCriteria(filter).forEach(query::addCriteria);
+        return query;
+    }
+
+    private Criteria toCriteria(ApplicationFilter filter) {
+        List<Criteria> criteria = filterCriteria(filter);
+        return criteria.isEmpty() ? new Criteria() : new Criteria().andOperator(criteria);
+    }
+
+    private boolean includesArchive(ApplicationFilter filter) {
+        return filter != null && filter.isIncludeArchived();
+    }
+
+    private List<Criteria> filterCriteria(ApplicationFilter filter) {
+        // Equality filters first so they line up with the (field, applicationDate) compound indexes
+        List<Criteria> criteria = new ArrayList<>();
+        if (filter == null) {
+            return criteria;
+        }
+
+        if (hasText(filter.getJobId())) {
+            criteria.add(Criteria.where("jobId").is(filter.getJobId()));
+        }
+        if (hasText(filter.getStatus())) {
+            criteria.add(Criteria.where("status").is(filter.getStatus()));
+        }
+        if (hasText(filter.getDepartment())) {
+            criteria.add(Criteria.where("department").is(filter.getDepartment()));
+        }
+        if (filter.getDateFrom() != null || filter.getDateTo() != null) {
+            Criteria dateRange = Criteria.where("applicationDate");
+            if (filter.getDateFrom() != null) {
+                dateRange.gte(filter.getDateFrom());
+            }
+            if (filter.getDateTo() != null) {
+                dateRange.lte(filter.getDateTo());
+            }
+            criteria.add(dateRange);
+        }
+        if (filter.getSearch() != null && !filter.getSearch().isBlank()) {
+            criteria.add(Criteria.where("searchTokens").all(ApplicantSearchTokens.forQuery(filter.getSearch())));
+        }
+        return criteria;
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private Criteria keysetAfterAscending(PageCursor after) {
+        // Mirror of keysetAfter for ascending pages, where rows without a date come first
+        if (after.getTimestamp() == null) {
+            return new Criteria().orOperator(
+                    Criteria.where("applicationDate").ne(null),
+                    new Criteria().andOperator(
+                            Criteria.where("applicationDate").is(null),
+                            Criteria.where("applicationId").gt(after.getId())
+                    )
+            );
+        }
+        return new Criteria().orOperator(
+                Criteria.where("applicationDate").gt(after.getTimestamp()),
+                new Criteria().andOperator(
+                        Criteria.where("applicationDate").is(after.getTimestamp()),
+                        Criteria.where("applicationId").gt(after.getId())
+                )
+        );
+    }
+
+    private Criteria keysetAfter(PageCursor after) {
+        // (applicationDate, applicationId) strictly after the last row of the previous page, newest first;
+        // rows without a date sort last
+        if (after.getTimestamp() == null) {
+            return new Criteria().andOperator(
+                    Criteria.where("applicationDate").is(null),
+                    Criteria.where("applicationId").lt(after.getId())
+            );
+        }
+        return new Criteria().orOperator(
+                Criteria.where("applicationDate").lt(after.getTimestamp()),
+                new Criteria().andOperator(
+                        Criteria.where("applicationDate").is(after.getTimestamp()),
+                        Criteria.where("applicationId").lt(after.getId())
+                ),
+                Criteria.where("applicationDate").is(null)
+        );
+    }
+}
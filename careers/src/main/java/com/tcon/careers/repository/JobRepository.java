@@ -3,17 +3,23 @@ package com.tcon.careers.repository;
 import com.tcon.careers.model.Job;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface JobRepository extends MongoRepository<Job, String> {
+public interface JobRepository extends MongoRepository<Job, String>, JobRepositoryCustom {
 
     Page<Job> findByIsActiveTrue(Pageable pageable);
 
+    Page<Job> findByIsActive(Boolean isActive, Pageable pageable);
+
+    List<Job> findByIsActiveTrue(Sort sort);
+
     Page<Job> findByIsActiveTrueAndDepartment(String department, Pageable pageable);
 
     Page<Job> findByIsActiveTrueAndLocation(String location, Pageable pageable);
@@ -22,9 +28,6 @@ public interface JobRepository extends MongoRepository<Job, String> {
 
     Page<Job> findByIsActiveTrueAndExperience(String experience, Pageable pageable);
 
-    @Query("{ 'isActive': true, $or: [ { 'title': { $regex: ?0, $options: 'i' } }, { 'description': { $regex: ?0, $options: 'i' } } ] }")
-    Page<Job> searchActiveJobs(String search, Pageable pageable);
-
     @Query("{ 'isActive': true, 'department': { $in: ?0 } }")
     Page<Job> findByIsActiveTrueAndDepartmentIn(List<String> departments, Pageable pageable);
 
@@ -33,12 +36,6 @@ public interface JobRepository extends MongoRepository<Job, String> {
 
     List<Job> findByDepartment(String department);
 
-    long countByIsActiveTrue();
-
-    long countByDepartment(String department);
-
-    long countByLocation(String location);
-
-    long countByType(String type);
+    Optional<Job> findTopByOrderByUpdatedAtDesc();
 }
 
@@ -0,0 +1,48 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.dto.JobSummary;
+import com.tcon.careers.dto.PageCursor;
+import com.tcon.careers.model.Job;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface JobRepositoryCustom {
+
+    Page<JobSummary> findActiveJobs(String department, String location, String type,
+                             String experience, String search, Pageable pageable);
+
+    List<JobSummary> findActiveJobsAfter(String department, String location, String type,
+                                  String experience, String search, PageCursor after, int limit);
+
+    long countActiveJobs(String department, String location, String type,
+                         String experience, String search);
+
+    Map<String, Object> aggregateJobStats();
+
+    void ensureTextIndex();
+
+    Optional<Job> updateJobDetails(String id, Job changes);
+
+    Optional<Job> updateActiveFlag(String id, boolean isActive);
+
+    void incrementApplicationCounts(String jobId, String status, long delta);
+
+    void moveApplicationStatus(String jobId, String fromStatus, String toStatus);
+
+    void applyApplicationCountDeltas(String jobId, long totalDelta, Map<String, Long> statusDeltas);
+
+    Map<String, Long> findCountersRevisions();
+
+    Map<String, Long> findCountersRevisions(Collection<String> jobIds);
+
+    /**
+     * Overwrites a job's applicant counters, but only while countersRevision is still
+     * the one read before counting. Returns false when an increment got there first.
+     */
+    boolean replaceApplicationCounts(String jobId, Long revision, long total, Map<String, Long> byStatus);
+}
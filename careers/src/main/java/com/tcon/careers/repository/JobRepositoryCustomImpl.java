@@ -0,0 +1,282 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.dto.JobSummary;
+import com.tcon.careers.dto.PageCursor;
+import com.tcon.careers.model.Job;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class JobRepositoryCustomImpl implements JobRepositoryCustom {
+
+    static final String TEXT_INDEX_NAME = "job_text_idx";
+    private static final String COUNTERS_REVISION = "countersRevision";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Page<JobSummary> findActiveJobs(String department, String location, String type,
+                                    String experience, String search, Pageable pageable) {
+        Query query = buildActiveJobQuery(department, location, type, experience, search);
+        if (query instanceof TextQuery textQuery) {
+            // Relevance first, then the pageable sort as tie-breaker
+            textQuery.sortByScore();
+        }
+
+        List<JobSummary> jobs = findSummaries(Query.of(query).with(pageable));
+        return PageableExecutionUtils.getPage(jobs, pageable, () -> mongoTemplate.count(query, Job.class));
+    }
+
+    @Override
+    public List<JobSummary> findActiveJobsAfter(String department, String location, String type,
+                                         String experience, String search, PageCursor after, int limit) {
+        Query query = buildActiveJobQuery(department, location, type, experience, search);
+        if (after != null) {
+            // Jobs without a posted date sort last
+            if (after.getTimestamp() == null) {
+                query.addCriteria(new Criteria().andOperator(
+                        Criteria.where("postedDate").is(null),
+                        Criteria.where("id").lt(after.getId())
+                ));
+            } else {
+                query.addCriteria(new Criteria().orOperator(
+                        Criteria.where("postedDate").lt(after.getTimestamp()),
+                        new Criteria().andOperator(
+                                Criteria.where("postedDate").is(after.getTimestamp()),
+                                Criteria.where("id").lt(after.getId())
+                        ),
+                        Criteria.where("postedDate").is(null)
+                ));
+            }
+        }
+        query.with(Sort.by(Sort.Direction.DESC, "postedDate", "id")).limit(limit);
+        return findSummaries(query);
+    }
+
+    @Override
+    public long countActiveJobs(String department, String location, String type,
+                                String experience, String search) {
+        return mongoTemplate.count(buildActiveJobQuery(department, location, type, experience, search), Job.class);
+    }
+
+    @Override
+    public Map<String, Object> aggregateJobStats() {
+        // One round trip: every breakdown is a facet over the same collection scan
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.facet(Aggregation.count().as("count")).as("totalJobs")
+                        .and(Aggregation.match(Criteria.where("isActive").is(true)),
+                                Aggregation.count().as("count")).as("totalActiveJobs")
+                        .and(Aggregation.group("department").count().as("count")).as("byDepartment")
+                        .and(Aggregation.group("location").count().as("count")).as("byLocation")
+                        .and(Aggregation.group("type").count().as("count")).as("byType")
+        );
+
+        Document result = mongoTemplate.aggregate(aggregation, Job.class, Document.class).getUniqueMappedResult();
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalActiveJobs", singleCount(result, "totalActiveJobs"));
+        stats.put("totalJobs", singleCount(result, "totalJobs"));
+        stats.put("byDepartment", groupCounts(result, "byDepartment"));
+        stats.put("byLocation", groupCounts(result, "byLocation"));
+        stats.put("byType", groupCounts(result, "byType"));
+        return stats;
+    }
+
+    @Override
+    public void ensureTextIndex() {
+        // Same weights as JobTextIndex, so database and snapshot search rank alike
+        mongoTemplate.indexOps(Job.class).createIndex(new TextIndexDefinition.TextIndexDefinitionBuilder()
+                .named(TEXT_INDEX_NAME)
+                .onField("title", 10F)
+                .onField("description", 1F)
+                .onField("requirements", 2F)
+                .build());
+    }
+
+    @Override
+    public Optional<Job> updateJobDetails(String id, Job changes) {
+        // $set only the editable fields so concurrent applicant counter increments are never overwritten.
+        // When the caller sends the version it edited, the write only applies to that version.
+        Query query = byId(id);
+        if (changes.getVersion() != null) {
+            query.addCriteria(Criteria.where("version").is(changes.getVersion()));
+        }
+        Update update = new Update()
+                .inc("version", 1)
+                .set("title", changes.getTitle())
+                .set("department", changes.getDepartment())
+                .set("location", changes.getLocation())
+                .set("type", changes.getType())
+                .set("salary", changes.getSalary())
+                .set("experience", changes.getExperience())
+                .set("description", changes.getDescription())
+                .set("requirements", changes.getRequirements())
+                .set("responsibilities", changes.getResponsibilities())
+                .set("color", changes.getColor())
+                .set("closingDate", changes.getClosingDate())
+                .set("updatedAt", LocalDateTime.now());
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Job.class));
+    }
+
+    @Override
+    public Optional<Job> updateActiveFlag(String id, boolean isActive) {
+        Update update = new Update()
+                .inc("version", 1)
+                .set("isActive", isActive)
+                .set("updatedAt", LocalDateTime.now());
+        return Optional.ofNullable(mongoTemplate.findAndModify(byId(id), update,
+                FindAndModifyOptions.options().returnNew(true), Job.class));
+    }
+
+    @Override
+    public void incrementApplicationCounts(String jobId, String status, long delta) {
+        Update update = new Update()
+                .inc("applicationCount", delta)
+                .inc("applicationsByStatus." + ApplicationCountersRepositoryCustomImpl.key(status), delta)
+                .inc(COUNTERS_REVISION, 1);
+        mongoTemplate.updateFirst(byId(jobId), update, Job.class);
+    }
+
+    @Override
+    public void moveApplicationStatus(String jobId, String fromStatus, String toStatus) {
+        Update update = new Update()
+                .inc("applicationsByStatus." + ApplicationCountersRepositoryCustomImpl.key(fromStatus), -1)
+                .inc("applicationsByStatus." + ApplicationCountersRepositoryCustomImpl.key(toStatus), 1)
+                .inc(COUNTERS_REVISION, 1);
+        mongoTemplate.updateFirst(byId(jobId), update, Job.class);
+    }
+
+    @Override
+    public void applyApplicationCountDeltas(String jobId, long totalDelta, Map<String, Long> statusDeltas) {
+        Update update = new Update();
+        if (totalDelta != 0) {
+            update.inc("applicationCount", totalDelta);
+        }
+        ApplicationCountersRepositoryCustomImpl.keyed(statusDeltas)
+                .forEach((status, delta) -> update.inc("applicationsByStatus." + status, delta));
+        if (update.getUpdateObject().isEmpty()) {
+            return;
+        }
+        update.inc(COUNTERS_REVISION, 1);
+        mongoTemplate.updateFirst(byId(jobId), update, Job.class);
+    }
+
+    @Override
+    public Map<String, Long> findCountersRevisions() {
+        return countersRevisions(new Query());
+    }
+
+    @Override
+    public Map<String, Long> findCountersRevisions(Collection<String> jobIds) {
+        return countersRevisions(new Query(Criteria.where("id").in(jobIds)));
+    }
+
+    @Override
+    public boolean replaceApplicationCounts(String jobId, Long revision, long total, Map<String, Long> byStatus) {
+        Query unchanged = byId(jobId).addCriteria(Criteria.where(COUNTERS_REVISION).is(revision));
+        Update update = new Update()
+                .set("applicationCount", total)
+                .set("applicationsByStatus", byStatus)
+                .set(COUNTERS_REVISION, revision != null ? revision + 1 : 1L);
+        return mongoTemplate.updateFirst(unchanged, update, Job.class).getMatchedCount() > 0;
+    }
+
+    private Map<String, Long> countersRevisions(Query query) {
+        query.fields().include("id", COUNTERS_REVISION);
+        Map<String, Long> revisions = new HashMap<>();
+        for (Job job : mongoTemplate.find(query, Job.class)) {
+            revisions.put(job.getId(), job.getCountersRevision());
+        }
+        return revisions;
+    }
+
+    private Query byId(String id) {
+        return new Query(Criteria.where("id").is(id));
+    }
+
+    private long singleCount(Document result, String facet) {
+        if (result == null) {
+            return 0;
+        }
+        List<Document> buckets = result.getList(facet, Document.class, List.of());
+        return buckets.isEmpty() ? 0 : ((Number) buckets.get(0).get("count")).longValue();
+    }
+
+    private Map<String, Long> groupCounts(Document result, String facet) {
+        Map<String, Long> counts = new HashMap<>();
+        if (result == null) {
+            return counts;
+        }
+        for (Document bucket : result.getList(facet, Document.class, List.of())) {
+            Object key = bucket.get("_id");
+            if (key != null) {
+                counts.put(key.toString(), ((Number) bucket.get("count")).longValue());
+            }
+        }
+        return counts;
+    }
+
+    // List endpoints only render cards, so skip description, requirements and responsibilities
+    private List<JobSummary> findSummaries(Query query) {
+        query.fields().include(JobSummary.FIELDS);
+        return mongoTemplate.query(Job.class).as(JobSummary.class).matching(query).all();
+    }
+
+    private Query buildActiveJobQuery(String department, String location, String type,
+                                      String experience, String search) {
+        Criteria criteria = buildActiveJobCriteria(department, location, type, experience);
+        if (hasText(search)) {
+            return TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(search))
+                    .addCriteria(criteria);
+        }
+        return new Query(criteria);
+    }
+
+    private Criteria buildActiveJobCriteria(String department, String location, String type,
+                                            String experience) {
+        // Equality filters first so they line up with the (isActive, field, postedDate) compound indexes
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("isActive").is(true));
+
+        if (hasText(department)) {
+            criteria.add(Criteria.where("department").is(department));
+        }
+        if (hasText(location)) {
+            criteria.add(Criteria.where("location").is(location));
+        }
+        if (hasText(type)) {
+            criteria.add(Criteria.where("type").is(type));
+        }
+        if (hasText(experience)) {
+            criteria.add(Criteria.where("experience").is(experience));
+        }
+
+        return new Criteria().andOperator(criteria);
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
@@ -0,0 +1,65 @@
+package com.tcon.careers.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Builds the lowercased prefix tokens stored on each application so that admin
+ * search becomes an indexed $all lookup instead of an unanchored regex scan.
+ */
+public final class ApplicantSearchTokens {
+
+    static final int MAX_PREFIX_LENGTH = 20;
+
+    private ApplicantSearchTokens() {
+    }
+
+    public static List<String> forApplicant(String firstName, String lastName, String email) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addWordPrefixes(tokens, firstName);
+        addWordPrefixes(tokens, lastName);
+        if (email != null) {
+            String normalized = email.trim().toLowerCase(Locale.ROOT);
+            addPrefixes(tokens, normalized);
+            // Also match on the pieces of the address, e.g. "doe" in "john.doe@example.com"
+            for (String part : normalized.split("[@._+\\-]+")) {
+                addPrefixes(tokens, part);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    public static List<String> forQuery(String search) {
+        List<String> terms = new ArrayList<>();
+        if (search == null) {
+            return terms;
+        }
+        for (String term : search.trim().toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!term.isEmpty()) {
+                terms.add(term.length() > MAX_PREFIX_LENGTH ? term.substring(0, MAX_PREFIX_LENGTH) : term);
+            }
+        }
+        return terms;
+    }
+
+    private static void addWordPrefixes(Set<String> tokens, String value) {
+        if (value == null) {
+            return;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        addPrefixes(tokens, normalized);
+        for (String word : normalized.split("[\\s'\\-]+")) {
+            addPrefixes(tokens, word);
+        }
+    }
+
+    private static void addPrefixes(Set<String> tokens, String word) {
+        int limit = Math.min(word.length(), MAX_PREFIX_LENGTH);
+        for (int length = 1; length <= limit; length++) {
+            tokens.add(word.substring(0, length));
+        }
+    }
+}
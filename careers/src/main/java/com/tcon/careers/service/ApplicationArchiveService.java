@@ -0,0 +1,69 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.JobApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves closed applications (rejected, hired) that have not changed for
+ * app.applications.archive.min-age-days out of job_applications into
+ * job_applications_archive, so the hot collection only holds the live pipeline.
+ * The dashboard and job counters keep counting archived applications.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationArchiveService {
+
+    private final JobApplicationRepository applicationRepository;
+    private final ApplicationCache applicationCache;
+
+    @Value("${app.applications.archive.enabled:true}")
+    private boolean archiveEnabled;
+
+    @Value("${app.applications.archive.statuses:rejected,hired}")
+    private List<String> terminalStatuses;
+
+    @Value("${app.applications.archive.min-age-days:365}")
+    private int minAgeDays;
+
+    @Value("${app.applications.archive.batch-size:500}")
+    private int batchSize;
+
+    public long archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+        applicationRepository.ensureArchiveIndexes();
+
+        long archived = 0;
+        List<JobApplication> batch;
+        List<JobApplication> moved;
+        do {
+            batch = applicationRepository.findArchivable(terminalStatuses, cutoff, batchSize);
+            moved = applicationRepository.moveToArchive(batch);
+            moved.forEach(application -> applicationCache.evict(application.getApplicationId()));
+            archived += moved.size();
+        } while (batch.size() == batchSize && !moved.isEmpty());
+
+        log.info("Archived {} applications last updated before {}", archived, cutoff);
+        return archived;
+    }
+
+    @Scheduled(cron = "${app.applications.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (!archiveEnabled) {
+            return;
+        }
+        try {
+            archive();
+        } catch (Exception e) {
+            log.error("Scheduled application archiving failed: {}", e.getMessage());
+        }
+    }
+}
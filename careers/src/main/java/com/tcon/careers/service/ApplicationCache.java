@@ -0,0 +1,54 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.dto.ApplicationTracking;
+import com.tcon.careers.model.JobApplication;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Read-through caches of application documents and public tracking views,
+ * both keyed by applicationId.
+ * Every write path in {@link JobApplicationService} evicts the affected ids;
+ * the TTL only bounds staleness from writes made by other instances.
+ */
+@Component
+public class ApplicationCache {
+
+    private final TtlCache<String, JobApplication> details;
+    private final TtlCache<String, ApplicationTracking> tracking;
+
+    public ApplicationCache(@Value("${app.applications.cache.max-size:10000}") int maxSize,
+                            @Value("${app.applications.cache.ttl-ms:60000}") long ttlMs) {
+        this.details = new TtlCache<>("application-details", maxSize, ttlMs);
+        this.tracking = new TtlCache<>("application-tracking", maxSize, ttlMs);
+    }
+
+    public JobApplication getDetails(String applicationId, Function<String, JobApplication> loader) {
+        return details.get(applicationId, loader);
+    }
+
+    public ApplicationTracking getTracking(String applicationId, Function<String, ApplicationTracking> loader) {
+        return tracking.get(applicationId, loader);
+    }
+
+    public void evict(String applicationId) {
+        details.evict(applicationId);
+        tracking.evict(applicationId);
+    }
+
+    public void evictAll(Collection<String> applicationIds) {
+        applicationIds.forEach(this::evict);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("details", details.stats());
+        stats.put("tracking", tracking.stats());
+        return stats;
+    }
+}
@@ -0,0 +1,153 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.exception.ConcurrentUpdateException;
+import com.tcon.careers.model.ApplicationCounters;
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.ApplicationCountersRepository;
+import com.tcon.careers.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maintains the dashboard counters document and the applicant counters on each
+ * job with atomic $inc updates, so neither the dashboard nor the admin job
+ * listing has to count job_applications. Archived applications stay in the
+ * counters; archiving moves a row but does not change any count.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationCounterService {
+
+    private final ApplicationCountersRepository countersRepository;
+    private final JobRepository jobRepository;
+    private final OptimisticRetryExecutor retryExecutor;
+
+    public void recordSubmission(JobApplication application) {
+        try {
+            countersRepository.increment(application.getStatus(), application.getDepartment(),
+                    application.getJobId(), 1);
+            jobRepository.incrementApplicationCounts(application.getJobId(), application.getStatus(), 1);
+        } catch (Exception e) {
+            log.error("Failed to update dashboard counters for new application {}: {}",
+                    application.getApplicationId(), e.getMessage());
+        }
+    }
+
+    public void recordStatusChange(String applicationId, String jobId, String fromStatus, String toStatus) {
+        if (fromStatus != null && fromStatus.equals(toStatus)) {
+            return;
+        }
+        try {
+            countersRepository.moveStatus(fromStatus, toStatus);
+            jobRepository.moveApplicationStatus(jobId, fromStatus, toStatus);
+        } catch (Exception e) {
+            log.error("Failed to update dashboard counters for application {}: {}", applicationId, e.getMessage());
+        }
+    }
+
+    /**
+     * Folds a batch of status changes into one $inc on the dashboard document
+     * and one per affected job. Each application carries its previous status.
+     */
+    public void recordStatusChanges(List<JobApplication> previousStates, String toStatus) {
+        Map<String, Long> byStatus = new HashMap<>();
+        Map<String, Map<String, Long>> byJob = new HashMap<>();
+        for (JobApplication application : previousStates) {
+            if (toStatus.equals(application.getStatus())) {
+                continue;
+            }
+            byStatus.merge(application.getStatus(), -1L, Long::sum);
+            byStatus.merge(toStatus, 1L, Long::sum);
+            Map<String, Long> jobDeltas = byJob.computeIfAbsent(application.getJobId(), k -> new HashMap<>());
+            jobDeltas.merge(application.getStatus(), -1L, Long::sum);
+            jobDeltas.merge(toStatus, 1L, Long::sum);
+        }
+        if (byStatus.isEmpty()) {
+            return;
+        }
+        try {
+            countersRepository.applyDeltas(0, byStatus, Map.of(), Map.of());
+            byJob.forEach((jobId, deltas) -> jobRepository.applyApplicationCountDeltas(jobId, 0, deltas));
+        } catch (Exception e) {
+            log.error("Failed to update dashboard counters for {} status changes: {}",
+                    previousStates.size(), e.getMessage());
+        }
+    }
+
+    public void recordDeletion(JobApplication application) {
+        try {
+            countersRepository.increment(application.getStatus(), application.getDepartment(),
+                    application.getJobId(), -1);
+            jobRepository.incrementApplicationCounts(application.getJobId(), application.getStatus(), -1);
+        } catch (Exception e) {
+            log.error("Failed to update dashboard counters for deleted application {}: {}",
+                    application.getApplicationId(), e.getMessage());
+        }
+    }
+
+    public ApplicationCounters getCounters() {
+        // A document without reconciledAt was created by an upsert and has never been seeded
+        return countersRepository.findById(ApplicationCounters.DASHBOARD_ID)
+                .filter(counters -> counters.getReconciledAt() != null)
+                .orElseGet(this::reconcile);
+    }
+
+    public ApplicationCounters reconcile() {
+        ApplicationCounters counters = retryExecutor.execute("Dashboard counters",
+                countersRepository::rebuildFromApplications);
+        reconcileJobCounters();
+        log.info("Dashboard counters reconciled: {} applications", counters.getTotal());
+        return counters;
+    }
+
+    private void reconcileJobCounters() {
+        // Revisions are read before counting, so a job whose counters moved meanwhile is not overwritten
+        Map<String, Long> revisions = jobRepository.findCountersRevisions();
+        Set<String> conflicted = replaceJobCounters(revisions);
+        for (String jobId : conflicted) {
+            try {
+                retryExecutor.execute("Job " + jobId + " counters", () -> {
+                    if (!replaceJobCounters(jobRepository.findCountersRevisions(List.of(jobId))).isEmpty()) {
+                        throw new OptimisticLockingFailureException("Applicant counters of job " + jobId + " changed");
+                    }
+                    return null;
+                });
+            } catch (ConcurrentUpdateException e) {
+                log.warn("Leaving applicant counters of job {} to the next reconciliation: {}", jobId, e.getMessage());
+            }
+        }
+    }
+
+    // Returns the jobs that took an increment while their applications were being counted
+    private Set<String> replaceJobCounters(Map<String, Long> revisions) {
+        Map<String, Map<String, Long>> byJob = countersRepository.countApplicationsByJobAndStatus(revisions.keySet());
+        Set<String> conflicted = new HashSet<>();
+        revisions.forEach((jobId, revision) -> {
+            Map<String, Long> byStatus = byJob.getOrDefault(jobId, new HashMap<>());
+            long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+            if (!jobRepository.replaceApplicationCounts(jobId, revision, total, byStatus)) {
+                conflicted.add(jobId);
+            }
+        });
+        return conflicted;
+    }
+
+    @Scheduled(cron = "${app.dashboard.counters.reconcile-cron:0 0 3 * * *}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("Scheduled dashboard counter reconciliation failed: {}", e.getMessage());
+        }
+    }
+}
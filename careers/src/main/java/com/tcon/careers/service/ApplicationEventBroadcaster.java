@@ -0,0 +1,165 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.dto.ApplicationEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes application events to connected admin dashboards over SSE.
+ * Every subscriber has its own bounded queue drained by its own sender task,
+ * so publishing never blocks and a slow client only delays itself; one that
+ * falls a full queue behind is disconnected.
+ */
+@Slf4j
+@Service
+public class ApplicationEventBroadcaster {
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger reservedSlots = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ThreadPoolExecutor senders;
+
+    @Value("${app.dashboard.events.max-subscribers:50}")
+    private int maxSubscribers;
+
+    @Value("${app.dashboard.events.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${app.dashboard.events.subscriber-queue-capacity:100}")
+    private int subscriberQueueCapacity;
+
+    public ApplicationEventBroadcaster() {
+        // At most one sender task per subscriber, so threads never exceed max-subscribers
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sse-sender-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public SseEmitter subscribe() {
+        // Reserve the slot before creating anything, so concurrent subscribes cannot overshoot the cap
+        if (reservedSlots.incrementAndGet() > maxSubscribers) {
+            reservedSlots.decrementAndGet();
+            throw new IllegalStateException("Too many dashboard subscribers. Please try again later.");
+        }
+
+        SseEmitter emitter = createEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, subscriberQueueCapacity);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.add(subscriber);
+        log.debug("Dashboard subscriber connected ({} active)", reservedSlots.get());
+        return emitter;
+    }
+
+    public void publish(ApplicationEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long id = sequence.incrementAndGet();
+        dispatch(SseEmitter.event()
+                .id(String.valueOf(id))
+                .name(event.getType())
+                .data(event));
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.events.heartbeat-ms:30000}")
+    public void heartbeat() {
+        // Keeps proxies from closing idle connections and flushes out dead subscribers
+        if (!subscribers.isEmpty()) {
+            dispatch(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void dispatch(SseEmitter.SseEventBuilder event) {
+        // Build once: the builder appends its terminating newline on every build() call
+        Set<ResponseBodyEmitter.DataWithMediaType> payload = event.build();
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.pending.offer(payload)) {
+                log.debug("Dropping dashboard subscriber that fell {} events behind", subscriberQueueCapacity);
+                remove(subscriber);
+                subscriber.emitter.complete();
+                continue;
+            }
+            if (subscriber.draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(() -> drain(subscriber));
+                } catch (RejectedExecutionException e) {
+                    subscriber.draining.set(false);
+                }
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<ResponseBodyEmitter.DataWithMediaType> payload;
+            while ((payload = subscriber.pending.poll()) != null) {
+                try {
+                    subscriber.emitter.send(payload);
+                } catch (IOException | IllegalStateException e) {
+                    remove(subscriber);
+                    log.debug("Dropping dashboard subscriber: {}", e.getMessage());
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // An event queued between the last poll and clearing the flag found the flag still set
+        } while (!subscriber.pending.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.removed.compareAndSet(false, true)) {
+            subscribers.remove(subscriber);
+            subscriber.pending.clear();
+            reservedSlots.decrementAndGet();
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int queueCapacity) {
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.tcon.careers.service;
 
+import com.tcon.careers.model.JobApplication;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
@@ -11,6 +14,8 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -31,6 +36,9 @@ public class EmailService {
     @Value("${app.frontend.url}")
     private String frontendUrl;
 
+    @Value("${app.email.batch-size:50}")
+    private int batchSize;
+
     @Async
     public void sendApplicationConfirmation(String toEmail, String applicantName, String jobTitle, String applicationId) {
         if (!emailEnabled) {
@@ -82,6 +90,49 @@ public class EmailService {
         }
     }
 
+    /**
+     * Sends the status update (and the rejection or offer follow-up) for a whole
+     * batch of applicants on one background task, reusing one SMTP connection
+     * per group of app.email.batch-size messages.
+     */
+    @Async
+    public void sendBulkStatusUpdateEmails(List<JobApplication> applications, String status, String notes) {
+        if (!emailEnabled) {
+            log.info("Email is disabled. Skipping {} bulk status update emails.", applications.size());
+            return;
+        }
+
+        List<MimeMessage> batch = new ArrayList<>(batchSize);
+        int total = 0;
+        int failed = 0;
+        for (JobApplication application : applications) {
+            String applicantName = application.getFirstName() + " " + application.getLastName();
+            String jobTitle = application.getJobTitle();
+            try {
+                batch.add(createHtmlMessage(application.getEmail(), "Application Status Update - " + jobTitle,
+                        buildStatusUpdateEmail(applicantName, jobTitle, status, notes)));
+                total++;
+                if ("rejected".equals(status)) {
+                    batch.add(createHtmlMessage(application.getEmail(), "Application Update - " + jobTitle,
+                            buildRejectionEmail(applicantName, jobTitle)));
+                    total++;
+                } else if ("offer-extended".equals(status)) {
+                    batch.add(createHtmlMessage(application.getEmail(), "Job Offer - " + jobTitle,
+                            buildOfferEmail(applicantName, jobTitle)));
+                    total++;
+                }
+            } catch (MessagingException e) {
+                failed++;
+                log.error("Failed to build status update email for {}: {}", application.getApplicationId(), e.getMessage());
+            }
+            if (batch.size() >= batchSize) {
+                failed += sendBatch(batch);
+            }
+        }
+        failed += sendBatch(batch);
+        log.info("Bulk status update emails sent: {} of {} delivered", total - failed, total);
+    }
+
     @Async
     public void sendInterviewInvitation(String toEmail, String applicantName, String jobTitle,
                                        LocalDateTime scheduledDate, String interviewer, String type,
@@ -188,6 +239,10 @@ public class EmailService {
     }
 
     private void sendHtmlEmail(String to, String subject, String htmlBody) throws MessagingException {
+        mailSender.send(createHtmlMessage(to, subject, htmlBody));
+    }
+
+    private MimeMessage createHtmlMessage(String to, String subject, String htmlBody) throws MessagingException {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
@@ -196,7 +251,26 @@ public class EmailService {
         helper.setSubject(subject);
         helper.setText(htmlBody, true);
 
-        mailSender.send(message);
+        return message;
+    }
+
+    // Returns how many messages in the batch could not be delivered
+    private int sendBatch(List<MimeMessage> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            mailSender.send(batch.toArray(new MimeMessage[0]));
+            return 0;
+        } catch (MailSendException e) {
+            log.error("Failed to send {} of {} batched emails: {}", e.getFailedMessages().size(), batch.size(), e.getMessage());
+            return e.getFailedMessages().size();
+        } catch (MailException e) {
+            log.error("Failed to send batch of {} emails: {}", batch.size(), e.getMessage());
+            return batch.size();
+        } finally {
+            batch.clear();
+        }
     }
 
     private String buildApplicationConfirmationEmail(String applicantName, String jobTitle, String applicationId) {
@@ -0,0 +1,295 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.dto.ApplicationFilter;
+import com.tcon.careers.dto.ExportJobRequest;
+import com.tcon.careers.dto.ExportJobStatus;
+import com.tcon.careers.repository.JobApplicationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Runs large exports in the background on a bounded worker pool and keeps the
+ * finished files on local disk for app.export.jobs.retention-ms. Identical
+ * requests (same format and filters) made while one is queued or running are
+ * attached to that job instead of starting another.
+ */
+@Slf4j
+@Service
+public class ExportJobService {
+
+    private final ExportService exportService;
+    private final JobApplicationRepository applicationRepository;
+    private final ThreadPoolExecutor workers;
+    private final Path directory;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, ExportJob> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${app.export.jobs.retention-ms:3600000}")
+    private long retentionMs;
+
+    public ExportJobService(ExportService exportService,
+                            JobApplicationRepository applicationRepository,
+                            @Value("${app.export.jobs.workers:2}") int workerCount,
+                            @Value("${app.export.jobs.queue-capacity:20}") int queueCapacity,
+                            @Value("${app.export.jobs.directory:${java.io.tmpdir}/careers-exports}") String directory) {
+        this.exportService = exportService;
+        this.applicationRepository = applicationRepository;
+        this.directory = Paths.get(directory);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "export-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public ExportJobStatus submit(ExportJobRequest request) {
+        String format = request.getFormat();
+        ApplicationFilter filter = request.getFilter() != null ? request.getFilter() : new ApplicationFilter();
+        String key = format + "|" + filter;
+
+        ExportJob created = new ExportJob(UUID.randomUUID().toString(), format, filter);
+        // Registered before anyone can coalesce onto it, so every id handed out can be looked up
+        jobs.put(created.id, created);
+        ExportJob job = inFlight.putIfAbsent(key, created);
+        if (job != null) {
+            jobs.remove(created.id);
+            log.debug("Export request coalesced into job {}", job.id);
+            return job.toStatus();
+        }
+
+        try {
+            workers.execute(() -> run(created, key));
+        } catch (RejectedExecutionException e) {
+            // Requests that already coalesced onto it see it fail instead of disappear
+            created.error = "Too many exports in progress";
+            created.status = ExportJobStatus.FAILED;
+            created.completedAt = LocalDateTime.now();
+            inFlight.remove(key, created);
+            throw new IllegalStateException("Too many exports in progress. Please try again later.");
+        }
+        log.info("Export job {} queued ({})", created.id, format);
+        return created.toStatus();
+    }
+
+    public Optional<ExportJobStatus> getStatus(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(ExportJob::toStatus);
+    }
+
+    /**
+     * Opens the finished file, or empty while the job is unknown, still running or failed.
+     * The file is kept until the returned stream is closed, even if the job expires meanwhile.
+     */
+    public Optional<InputStream> openFile(String id) throws IOException {
+        ExportJob job = jobs.get(id);
+        if (job == null || !ExportJobStatus.COMPLETED.equals(job.status) || !job.pin()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new FilterInputStream(Files.newInputStream(job.file)) {
+                private boolean closed;
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        if (!closed) {
+                            closed = true;
+                            release(job);
+                        }
+                    }
+                }
+            });
+        } catch (IOException e) {
+            release(job);
+            throw e;
+        }
+    }
+
+    private void release(ExportJob job) {
+        if (job.unpin()) {
+            deleteQuietly(job.file);
+        }
+    }
+
+    private void run(ExportJob job, String key) {
+        job.status = ExportJobStatus.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        Path partial = directory.resolve(job.id + "." + job.format + ".part");
+        try {
+            Files.createDirectories(directory);
+            job.totalRows = applicationRepository.countApplications(job.filter);
+
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+                if ("xlsx".equals(job.format)) {
+                    exportService.writeExcel(job.filter, out, job.rowsWritten::set);
+                } else {
+                    exportService.writeCsv(job.filter, out, job.rowsWritten::set);
+                }
+            }
+
+            Path file = directory.resolve(job.id + "." + job.format);
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING);
+            job.file = file;
+            job.fileSize = Files.size(file);
+            job.status = ExportJobStatus.COMPLETED;
+            log.info("Export job {} completed with {} rows", job.id, job.rowsWritten.get());
+        } catch (Exception e) {
+            job.error = e.getMessage();
+            job.status = ExportJobStatus.FAILED;
+            deleteQuietly(partial);
+            log.error("Export job {} failed: {}", job.id, e.getMessage());
+        } finally {
+            job.completedAt = LocalDateTime.now();
+            inFlight.remove(key, job);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.export.jobs.cleanup-interval-ms:300000}")
+    public void removeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(retentionMs));
+        jobs.values().removeIf(job -> {
+            boolean expired = job.completedAt != null && job.completedAt.isBefore(cutoff);
+            // A file still being downloaded is deleted when its last download closes
+            if (expired && job.expire() && job.file != null) {
+                deleteQuietly(job.file);
+            }
+            return expired;
+        });
+    }
+
+    // Jobs live in memory only, so partial files from a run that was killed mid-export belong to nobody
+    @PostConstruct
+    public void removeLeftoverPartials() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(".part")).forEach(file -> {
+                log.info("Removing leftover partial export {}", file);
+                deleteQuietly(file);
+            });
+        } catch (IOException e) {
+            log.warn("Could not scan export directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static final class ExportJob {
+        private final String id;
+        private final String format;
+        private final ApplicationFilter filter;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicLong rowsWritten = new AtomicLong();
+
+        private volatile String status = ExportJobStatus.QUEUED;
+        private volatile Long totalRows;
+        private volatile Path file;
+        private volatile Long fileSize;
+        private volatile String error;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+
+        private int downloads;
+        private boolean expired;
+
+        private ExportJob(String id, String format, ApplicationFilter filter) {
+            this.id = id;
+            this.format = format;
+            this.filter = filter;
+        }
+
+        private synchronized boolean pin() {
+            if (expired) {
+                return false;
+            }
+            downloads++;
+            return true;
+        }
+
+        // True when this was the last download of an expired job, so the file can go
+        private synchronized boolean unpin() {
+            downloads--;
+            return expired && downloads == 0;
+        }
+
+        // True when no download holds the file, so it can go now
+        private synchronized boolean expire() {
+            expired = true;
+            return downloads == 0;
+        }
+
+        private ExportJobStatus toStatus() {
+            long rows = rowsWritten.get();
+            Long total = totalRows;
+            Integer progress = null;
+            if (ExportJobStatus.COMPLETED.equals(status)) {
+                progress = 100;
+            } else if (total != null && total > 0) {
+                // The count is taken before the cursor opens, so rows written can overshoot it slightly
+                progress = (int) Math.min(99, rows * 100 / total);
+            }
+
+            return ExportJobStatus.builder()
+                    .id(id)
+                    .format(format)
+                    .status(status)
+                    .rowsWritten(rows)
+                    .totalRows(total)
+                    .progressPercent(progress)
+                    .fileSize(fileSize)
+                    .error(error)
+                    .createdAt(createdAt)
+                    .startedAt(startedAt)
+                    .completedAt(completedAt)
+                    .downloadUrl(ExportJobStatus.COMPLETED.equals(status)
+                            ? "/api/admin/exports/jobs/" + id + "/download" : null)
+                    .build();
+        }
+    }
+}
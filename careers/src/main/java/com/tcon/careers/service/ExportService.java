@@ -1,18 +1,34 @@
 package com.tcon.careers.service;
 
 import com.opencsv.CSVWriter;
+import com.tcon.careers.dto.ApplicationFilter;
 import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.JobApplicationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -21,62 +37,43 @@ public class ExportService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    static final String[] HEADERS = {
+        "Application ID", "Job Title", "Department", "First Name", "Last Name",
+        "Email", "Phone", "Current Location", "Years of Experience", "Current Role",
+        "Current Company", "Notice Period", "Expected Salary", "Education",
+        "Status", "Application Date", "LinkedIn", "Portfolio", "GitHub"
+    };
+
+    // Mongo fields behind HEADERS, in the same order
+    static final String[] FIELDS = {
+        "applicationId", "jobTitle", "department", "firstName", "lastName",
+        "email", "phone", "currentLocation", "yearsOfExperience", "currentRole",
+        "currentCompany", "noticePeriod", "expectedSalary", "education",
+        "status", "applicationDate", "linkedinUrl", "portfolioUrl", "githubUrl"
+    };
+
+    // Column widths in characters, sized for typical values of each field
+    private static final int[] COLUMN_WIDTHS = {
+        38, 30, 20, 16, 16, 32, 18, 22, 10, 26,
+        26, 14, 16, 30, 20, 20, 40, 40, 40
+    };
+
+    private static final int YEARS_OF_EXPERIENCE_COLUMN = 8;
+    private static final String SHEET_NAME = "Job Applications";
+
+    private final JobApplicationRepository applicationRepository;
+
+    @Value("${app.export.xlsx.row-window:100}")
+    private int rowWindow;
+
     public byte[] exportToExcel(List<JobApplication> applications) throws IOException {
         try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("Job Applications");
-
-            // Create header style
-            CellStyle headerStyle = workbook.createCellStyle();
-            Font headerFont = workbook.createFont();
-            headerFont.setBold(true);
-            headerStyle.setFont(headerFont);
-            headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-            // Create header row
-            Row headerRow = sheet.createRow(0);
-            String[] headers = {
-                "Application ID", "Job Title", "Department", "First Name", "Last Name",
-                "Email", "Phone", "Current Location", "Years of Experience", "Current Role",
-                "Current Company", "Notice Period", "Expected Salary", "Education",
-                "Status", "Application Date", "LinkedIn", "Portfolio", "GitHub"
-            };
-
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
+            Sheet sheet = createSheet(workbook, SHEET_NAME);
 
             // Fill data rows
             int rowNum = 1;
             for (JobApplication app : applications) {
-                Row row = sheet.createRow(rowNum++);
-
-                row.createCell(0).setCellValue(app.getApplicationId());
-                row.createCell(1).setCellValue(app.getJobTitle());
-                row.createCell(2).setCellValue(app.getDepartment());
-                row.createCell(3).setCellValue(app.getFirstName());
-                row.createCell(4).setCellValue(app.getLastName());
-                row.createCell(5).setCellValue(app.getEmail());
-                row.createCell(6).setCellValue(app.getPhone());
-                row.createCell(7).setCellValue(app.getCurrentLocation());
-                row.createCell(8).setCellValue(app.getYearsOfExperience());
-                row.createCell(9).setCellValue(app.getCurrentRole());
-                row.createCell(10).setCellValue(app.getCurrentCompany() != null ? app.getCurrentCompany() : "");
-                row.createCell(11).setCellValue(app.getNoticePeriod());
-                row.createCell(12).setCellValue(app.getExpectedSalary() != null ? app.getExpectedSalary() : "");
-                row.createCell(13).setCellValue(app.getEducation());
-                row.createCell(14).setCellValue(app.getStatus());
-                row.createCell(15).setCellValue(app.getApplicationDate().format(DATE_FORMATTER));
-                row.createCell(16).setCellValue(app.getLinkedinUrl() != null ? app.getLinkedinUrl() : "");
-                row.createCell(17).setCellValue(app.getPortfolioUrl() != null ? app.getPortfolioUrl() : "");
-                row.createCell(18).setCellValue(app.getGithubUrl() != null ? app.getGithubUrl() : "");
-            }
-
-            // Auto-size columns
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
+                fillRow(sheet.createRow(rowNum++), app);
             }
 
             workbook.write(out);
@@ -85,48 +82,191 @@ public class ExportService {
         }
     }
 
+    /**
+     * Writes every application matching the filter as XLSX through SXSSF, so
+     * only the last app.export.xlsx.row-window rows are held in memory and the
+     * rest are flushed to a compressed temp file until the workbook is written.
+     */
+    public long writeExcel(ApplicationFilter filter, OutputStream out) throws IOException {
+        return writeExcel(filter, out, rows -> { });
+    }
+
+    public long writeExcel(ApplicationFilter filter, OutputStream out, LongConsumer progress) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowWindow);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = createSheet(workbook, SHEET_NAME);
+            int maxRowIndex = SpreadsheetVersion.EXCEL2007.getLastRowIndex();
+            int sheetCount = 1;
+            int rowNum = 1;
+
+            long rows = 0;
+            try (Stream<JobApplication> applications = applicationRepository.streamApplications(filter, FIELDS)) {
+                Iterator<JobApplication> iterator = applications.iterator();
+                while (iterator.hasNext()) {
+                    if (rowNum > maxRowIndex) {
+                        // One sheet holds about a million rows; continue on the next one
+                        sheet = createSheet(workbook, SHEET_NAME + " (" + ++sheetCount + ")");
+                        rowNum = 1;
+                    }
+                    fillRow(sheet.createRow(rowNum++), iterator.next());
+                    progress.accept(++rows);
+                }
+            }
+
+            workbook.write(out);
+            out.flush();
+            log.info("Streamed {} applications to Excel", rows);
+            return rows;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private Sheet createSheet(Workbook workbook, String name) {
+        Sheet sheet = workbook.createSheet(name);
+
+        // Fixed widths instead of autoSizeColumn, which re-measures every cell in the column
+        for (int i = 0; i < COLUMN_WIDTHS.length; i++) {
+            sheet.setColumnWidth(i, COLUMN_WIDTHS[i] * 256);
+        }
+
+        // Create header style
+        CellStyle headerStyle = workbook.createCellStyle();
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        headerStyle.setFont(headerFont);
+        headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+        headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+
+        // Create header row
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < HEADERS.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(HEADERS[i]);
+            cell.setCellStyle(headerStyle);
+        }
+        return sheet;
+    }
+
+    private void fillRow(Row row, JobApplication app) {
+        String[] values = toRow(app);
+        for (int i = 0; i < values.length; i++) {
+            if (i == YEARS_OF_EXPERIENCE_COLUMN) {
+                Cell cell = row.createCell(i);
+                if (app.getYearsOfExperience() != null) {
+                    cell.setCellValue(app.getYearsOfExperience());
+                }
+            } else {
+                row.createCell(i).setCellValue(values[i]);
+            }
+        }
+    }
+
     public String exportToCSV(List<JobApplication> applications) throws IOException {
         StringWriter stringWriter = new StringWriter();
 
         try (CSVWriter csvWriter = new CSVWriter(stringWriter)) {
-            // Write header
-            String[] header = {
-                "Application ID", "Job Title", "Department", "First Name", "Last Name",
-                "Email", "Phone", "Current Location", "Years of Experience", "Current Role",
-                "Current Company", "Notice Period", "Expected Salary", "Education",
-                "Status", "Application Date", "LinkedIn", "Portfolio", "GitHub"
-            };
-            csvWriter.writeNext(header);
-
-            // Write data rows
+            csvWriter.writeNext(HEADERS);
             for (JobApplication app : applications) {
-                String[] data = {
-                    app.getApplicationId(),
-                    app.getJobTitle(),
-                    app.getDepartment(),
-                    app.getFirstName(),
-                    app.getLastName(),
-                    app.getEmail(),
-                    app.getPhone(),
-                    app.getCurrentLocation(),
-                    String.valueOf(app.getYearsOfExperience()),
-                    app.getCurrentRole(),
-                    app.getCurrentCompany() != null ? app.getCurrentCompany() : "",
-                    app.getNoticePeriod(),
-                    app.getExpectedSalary() != null ? app.getExpectedSalary() : "",
-                    app.getEducation(),
-                    app.getStatus(),
-                    app.getApplicationDate().format(DATE_FORMATTER),
-                    app.getLinkedinUrl() != null ? app.getLinkedinUrl() : "",
-                    app.getPortfolioUrl() != null ? app.getPortfolioUrl() : "",
-                    app.getGithubUrl() != null ? app.getGithubUrl() : ""
-                };
-                csvWriter.writeNext(data);
+                csvWriter.writeNext(toRow(app));
             }
 
             log.info("Exported {} applications to CSV", applications.size());
             return stringWriter.toString();
         }
     }
-}
 
+    /**
+     * Writes every application matching the filter as CSV, reading only the
+     * exported fields through a Mongo cursor and flushing rows as they are
+     * produced. The output stream is flushed but left open for the caller.
+     */
+    public long writeCsv(ApplicationFilter filter, OutputStream out) throws IOException {
+        return writeCsv(filter, out, rows -> { });
+    }
+
+    public long writeCsv(ApplicationFilter filter, OutputStream out, LongConsumer progress) throws IOException {
+        return writeCsv(applicationRepository.streamApplications(filter, FIELDS), out, progress);
+    }
+
+    /**
+     * Writes applications whose lastUpdated falls in (after, until] as CSV,
+     * oldest change first. A null after exports everything up to until.
+     */
+    public long writeUpdatedCsv(LocalDateTime after, LocalDateTime until, OutputStream out) throws IOException {
+        return writeCsv(applicationRepository.streamUpdatedBetween(after, until, FIELDS), out, rows -> { });
+    }
+
+    private long writeCsv(Stream<JobApplication> source, OutputStream out, LongConsumer progress) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CSVWriter csvWriter = new CSVWriter(writer);
+        csvWriter.writeNext(HEADERS);
+
+        long rows = 0;
+        try (Stream<JobApplication> applications = source) {
+            Iterator<JobApplication> iterator = applications.iterator();
+            while (iterator.hasNext()) {
+                csvWriter.writeNext(toRow(iterator.next()));
+                progress.accept(++rows);
+            }
+        }
+        csvWriter.flush();
+        if (csvWriter.checkError()) {
+            throw new IOException("Failed to write CSV export", csvWriter.getException());
+        }
+
+        log.info("Streamed {} applications to CSV", rows);
+        return rows;
+    }
+
+    // Same fields as toRow, keyed by FIELDS, with dates and numbers left for the JSON mapper
+    static Map<String, Object> toRecord(JobApplication app) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("applicationId", app.getApplicationId());
+        record.put("jobTitle", app.getJobTitle());
+        record.put("department", app.getDepartment());
+        record.put("firstName", app.getFirstName());
+        record.put("lastName", app.getLastName());
+        record.put("email", app.getEmail());
+        record.put("phone", app.getPhone());
+        record.put("currentLocation", app.getCurrentLocation());
+        record.put("yearsOfExperience", app.getYearsOfExperience());
+        record.put("currentRole", app.getCurrentRole());
+        record.put("currentCompany", app.getCurrentCompany());
+        record.put("noticePeriod", app.getNoticePeriod());
+        record.put("expectedSalary", app.getExpectedSalary());
+        record.put("education", app.getEducation());
+        record.put("status", app.getStatus());
+        record.put("applicationDate", app.getApplicationDate());
+        record.put("linkedinUrl", app.getLinkedinUrl());
+        record.put("portfolioUrl", app.getPortfolioUrl());
+        record.put("githubUrl", app.getGithubUrl());
+        return record;
+    }
+
+    static String[] toRow(JobApplication app) {
+        return new String[] {
+            app.getApplicationId(),
+            app.getJobTitle(),
+            app.getDepartment(),
+            app.getFirstName(),
+            app.getLastName(),
+            app.getEmail(),
+            app.getPhone(),
+            app.getCurrentLocation(),
+            String.valueOf(app.getYearsOfExperience()),
+            app.getCurrentRole(),
+            app.getCurrentCompany() != null ? app.getCurrentCompany() : "",
+            app.getNoticePeriod(),
+            app.getExpectedSalary() != null ? app.getExpectedSalary() : "",
+            app.getEducation(),
+            app.getStatus(),
+            app.getApplicationDate() != null ? app.getApplicationDate().format(DATE_FORMATTER) : "",
+            app.getLinkedinUrl() != null ? app.getLinkedinUrl() : "",
+            app.getPortfolioUrl() != null ? app.getPortfolioUrl() : "",
+            app.getGithubUrl() != null ? app.getGithubUrl() : ""
+        };
+    }
+}
@@ -1,9 +1,19 @@
 package com.tcon.careers.service;
 
+import com.tcon.careers.dto.ApplicationEvent;
+import com.tcon.careers.dto.ApplicationFilter;
+import com.tcon.careers.dto.ApplicationListItem;
+import com.tcon.careers.dto.ApplicationTracking;
+import com.tcon.careers.dto.BulkStatusUpdateRequest;
+import com.tcon.careers.dto.BulkStatusUpdateResponse;
+import com.tcon.careers.dto.CursorPageResponse;
 import com.tcon.careers.dto.InterviewScheduleRequest;
 import com.tcon.careers.dto.JobApplicationRequest;
+import com.tcon.careers.dto.PageCursor;
 import com.tcon.careers.dto.PageResponse;
+import com.tcon.careers.dto.PendingReviewItem;
 import com.tcon.careers.dto.StatusUpdateRequest;
+import com.tcon.careers.model.ApplicationCounters;
 import com.tcon.careers.model.Job;
 import com.tcon.careers.model.JobApplication;
 import com.tcon.careers.repository.JobApplicationRepository;
@@ -19,24 +29,44 @@ import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class JobApplicationService {
 
+    private static final List<String> APPLICATION_STATUSES = List.of(
+            "submitted", "screening", "interview-scheduled", "interview-completed",
+            "rejected", "offer-extended", "hired"
+    );
+
     private final JobApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
     private final FileStorageService fileStorageService;
     private final EmailService emailService;
     private final RateLimitService rateLimitService;
+    private final ApplicationCounterService counterService;
+    private final ApplicationEventBroadcaster eventBroadcaster;
+    private final JsonMapper jsonMapper;
+    private final ApplicationCache applicationCache;
+    private final ApplicationArchiveService archiveService;
 
     @Value("${app.rate-limit.enabled}")
     private boolean rateLimitEnabled;
@@ -69,6 +99,8 @@ public class JobApplicationService {
                 .lastName(request.getLastName())
                 .email(request.getEmail())
                 .phone(request.getPhone())
+                .searchTokens(ApplicantSearchTokens.forApplicant(
+                        request.getFirstName(), request.getLastName(), request.getEmail()))
                 .linkedinUrl(request.getLinkedinUrl())
                 .portfolioUrl(request.getPortfolioUrl())
                 .githubUrl(request.getGithubUrl())
@@ -91,7 +123,6 @@ public class JobApplicationService {
                 .resumeFileSize(resume.getSize())
                 .status("submitted")
                 .applicationDate(LocalDateTime.now())
-                .lastUpdated(LocalDateTime.now())
                 .ipAddress(getClientIP(httpRequest))
                 .userAgent(httpRequest.getHeader("User-Agent"))
                 .statusHistory(new ArrayList<>())
@@ -108,9 +139,11 @@ public class JobApplicationService {
                 .build();
         application.getStatusHistory().add(initialStatus);
 
-        // Save application
-        JobApplication savedApplication = applicationRepository.save(application);
+        // Save application; lastUpdated is stamped by the database like every later update
+        JobApplication savedApplication = applicationRepository.insertWithServerTimestamp(application);
         log.info("Application submitted successfully with id: {}", savedApplication.getApplicationId());
+        counterService.recordSubmission(savedApplication);
+        eventBroadcaster.publish(toEvent(ApplicationEvent.APPLICATION_SUBMITTED, savedApplication, null));
 
         // Send emails
         emailService.sendApplicationConfirmation(
@@ -129,59 +162,94 @@ public class JobApplicationService {
         return savedApplication;
     }
 
-    public PageResponse<JobApplication> getAllApplications(String jobId, String status, String department,
-                                                           LocalDateTime dateFrom, LocalDateTime dateTo,
-                                                           String search, int page, int size) {
+    public PageResponse<ApplicationListItem> getAllApplications(String jobId, String status, String department,
+                                                                LocalDateTime dateFrom, LocalDateTime dateTo,
+                                                                String search, boolean includeArchived,
+                                                                int page, int size) {
+        ApplicationFilter filter = ApplicationFilter.builder()
+                .jobId(jobId)
+                .status(status)
+                .department(department)
+                .dateFrom(dateFrom)
+                .dateTo(dateTo)
+                .search(search)
+                .includeArchived(includeArchived)
+                .build();
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "applicationDate"));
-        Page<JobApplication> applicationPage;
-
-        if (search != null && !search.isEmpty()) {
-            applicationPage = applicationRepository.searchApplications(search, pageable);
-        } else if (jobId != null && !jobId.isEmpty()) {
-            applicationPage = applicationRepository.findByJobId(jobId, pageable);
-        } else if (status != null && !status.isEmpty()) {
-            applicationPage = applicationRepository.findByStatus(status, pageable);
-        } else if (department != null && !department.isEmpty()) {
-            applicationPage = applicationRepository.findByDepartment(department, pageable);
-        } else if (dateFrom != null && dateTo != null) {
-            applicationPage = applicationRepository.findByApplicationDateBetween(dateFrom, dateTo, pageable);
-        } else {
-            applicationPage = applicationRepository.findAll(pageable);
-        }
+        Page<ApplicationListItem> applicationPage = applicationRepository.findApplications(filter, pageable);
 
         return mapToPageResponse(applicationPage);
     }
 
-    public JobApplication getApplicationById(String id) {
-        return applicationRepository.findByApplicationId(id)
+    private StatusTransition applyStatusChange(String id, JobApplication.StatusHistory entry,
+                                               JobApplication.InterviewSchedule interview) {
+        // A single findAndModify; its pre-image says which status this change replaced
+        JobApplication updated = applicationRepository.applyStatusChange(id, entry, interview)
                 .orElseThrow(() -> new RuntimeException("Application not found with id: " + id));
+        applicationCache.evict(id);
+        String previousStatus = updated.getStatus();
+        updated.setStatus(entry.getStatus());
+        updated.setVersion(updated.getVersion() == null ? 1L : updated.getVersion() + 1);
+        return new StatusTransition(previousStatus, updated);
+    }
+
+    public CursorPageResponse<ApplicationListItem> getApplicationsByCursor(ApplicationFilter filter, String cursor,
+                                                                           int limit, boolean includeTotal) {
+        int pageSize = Math.max(limit, 1);
+        List<ApplicationListItem> applications = applicationRepository.findApplicationsAfter(
+                filter, PageCursor.decode(cursor), pageSize + 1);
+        boolean hasMore = applications.size() > pageSize;
+        List<ApplicationListItem> content = hasMore ? applications.subList(0, pageSize) : applications;
+
+        String nextCursor = null;
+        if (hasMore) {
+            ApplicationListItem last = content.get(content.size() - 1);
+            nextCursor = new PageCursor(last.getApplicationDate(), last.getApplicationId()).encode();
+        }
+
+        return CursorPageResponse.<ApplicationListItem>builder()
+                .content(content)
+                .pageSize(pageSize)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .totalElements(includeTotal ? applicationRepository.countApplications(filter) : null)
+                .build();
+    }
+
+    public JobApplication getApplicationById(String id) {
+        return applicationCache.getDetails(id, key -> applicationRepository.findByApplicationId(key)
+                .or(() -> applicationRepository.findArchivedById(key))
+                .orElseThrow(() -> new RuntimeException("Application not found with id: " + key)));
     }
 
     public JobApplication updateApplicationStatus(String id, StatusUpdateRequest statusUpdate) {
-        JobApplication application = getApplicationById(id);
         String currentUser = getCurrentUsername();
 
-        // Update status
-        application.setStatus(statusUpdate.getStatus());
-        application.setLastUpdated(LocalDateTime.now());
-
-        // Add to status history
+        // Status and history change in one atomic $set/$push
         JobApplication.StatusHistory statusHistory = JobApplication.StatusHistory.builder()
                 .status(statusUpdate.getStatus())
                 .changedBy(currentUser)
                 .changedAt(LocalDateTime.now())
                 .notes(statusUpdate.getNotes())
                 .build();
-        application.getStatusHistory().add(statusHistory);
 
-        JobApplication updated = applicationRepository.save(application);
+        StatusTransition transition = applyStatusChange(id, statusHistory, null);
+        JobApplication updated = transition.updated;
+        String previousStatus = transition.previousStatus;
+        if (statusUpdate.getStatus().equals(previousStatus)) {
+            // Only the history entry and its notes were added; nothing to count or tell anyone
+            log.info("Application {} already had status {}", id, previousStatus);
+            return updated;
+        }
         log.info("Application status updated to {} for id: {}", statusUpdate.getStatus(), id);
+        counterService.recordStatusChange(id, updated.getJobId(), previousStatus, statusUpdate.getStatus());
+        eventBroadcaster.publish(toEvent(ApplicationEvent.STATUS_CHANGED, updated, previousStatus));
 
         // Send status update email
         emailService.sendStatusUpdateEmail(
-                application.getEmail(),
-                application.getFirstName() + " " + application.getLastName(),
-                application.getJobTitle(),
+                updated.getEmail(),
+                updated.getFirstName() + " " + updated.getLastName(),
+                updated.getJobTitle(),
                 statusUpdate.getStatus(),
                 statusUpdate.getNotes()
         );
@@ -189,23 +257,112 @@ public class JobApplicationService {
         // Send specific emails based on status
         if ("rejected".equals(statusUpdate.getStatus())) {
             emailService.sendRejectionEmail(
-                    application.getEmail(),
-                    application.getFirstName() + " " + application.getLastName(),
-                    application.getJobTitle()
+                    updated.getEmail(),
+                    updated.getFirstName() + " " + updated.getLastName(),
+                    updated.getJobTitle()
             );
         } else if ("offer-extended".equals(statusUpdate.getStatus())) {
             emailService.sendOfferEmail(
-                    application.getEmail(),
-                    application.getFirstName() + " " + application.getLastName(),
-                    application.getJobTitle()
+                    updated.getEmail(),
+                    updated.getFirstName() + " " + updated.getLastName(),
+                    updated.getJobTitle()
             );
         }
 
         return updated;
     }
 
+    public BulkStatusUpdateResponse bulkUpdateStatus(BulkStatusUpdateRequest request) {
+        String targetStatus = request.getStatus();
+        if (!APPLICATION_STATUSES.contains(targetStatus)) {
+            throw new IllegalArgumentException("Unknown application status: " + targetStatus);
+        }
+
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(request.getApplicationIds()));
+        Map<String, JobApplication> views = new LinkedHashMap<>();
+        for (JobApplication view : applicationRepository.findStatusViews(ids)) {
+            views.put(view.getApplicationId(), view);
+        }
+
+        List<String> notFound = new ArrayList<>();
+        List<String> unchanged = new ArrayList<>();
+        Map<String, Long> expectedVersions = new LinkedHashMap<>();
+        for (String id : ids) {
+            JobApplication view = views.get(id);
+            if (view == null) {
+                notFound.add(id);
+            } else if (targetStatus.equals(view.getStatus())) {
+                unchanged.add(id);
+            } else {
+                expectedVersions.put(id, view.getVersion());
+            }
+        }
+
+        JobApplication.StatusHistory statusHistory = JobApplication.StatusHistory.builder()
+                .status(targetStatus)
+                .changedBy(getCurrentUsername())
+                .changedAt(LocalDateTime.now())
+                .notes(request.getNotes())
+                .changeId(UUID.randomUUID().toString())
+                .build();
+
+        int modified = applicationRepository.applyStatusChanges(expectedVersions, statusHistory);
+        applicationCache.evictAll(expectedVersions.keySet());
+
+        // Anything changed between the pre-read and the bulk write was skipped. Other writers bump
+        // the version too, so ask which documents carry this change's history entry instead.
+        List<JobApplication> applied = new ArrayList<>(modified);
+        List<String> stragglers = new ArrayList<>();
+        if (modified == expectedVersions.size()) {
+            expectedVersions.keySet().forEach(id -> applied.add(views.get(id)));
+        } else {
+            Set<String> changed = applicationRepository.findWithStatusChange(
+                    expectedVersions.keySet(), statusHistory.getChangeId());
+            for (String id : expectedVersions.keySet()) {
+                if (changed.contains(id)) {
+                    applied.add(views.get(id));
+                } else {
+                    stragglers.add(id);
+                }
+            }
+        }
+
+        counterService.recordStatusChanges(applied, targetStatus);
+        for (JobApplication application : applied) {
+            String previousStatus = application.getStatus();
+            application.setStatus(targetStatus);
+            application.setLastUpdated(statusHistory.getChangedAt());
+            eventBroadcaster.publish(toEvent(ApplicationEvent.STATUS_CHANGED, application, previousStatus));
+        }
+        emailService.sendBulkStatusUpdateEmails(applied, targetStatus, request.getNotes());
+
+        // Stragglers go through the single-application path, which re-reads and retries
+        List<String> failed = new ArrayList<>();
+        StatusUpdateRequest statusUpdate = new StatusUpdateRequest(targetStatus, request.getNotes());
+        int updated = applied.size();
+        for (String id : stragglers) {
+            try {
+                updateApplicationStatus(id, statusUpdate);
+                updated++;
+            } catch (Exception e) {
+                log.warn("Bulk status update skipped application {}: {}", id, e.getMessage());
+                failed.add(id);
+            }
+        }
+        log.info("Bulk status update to {}: {} updated, {} unchanged, {} not found, {} failed",
+                targetStatus, updated, unchanged.size(), notFound.size(), failed.size());
+
+        return BulkStatusUpdateResponse.builder()
+                .status(targetStatus)
+                .requested(ids.size())
+                .updated(updated)
+                .unchanged(unchanged)
+                .notFound(notFound)
+                .failed(failed)
+                .build();
+    }
+
     public JobApplication addAdminNote(String id, String note) {
-        JobApplication application = getApplicationById(id);
         String currentUser = getCurrentUsername();
 
         JobApplication.AdminNote adminNote = JobApplication.AdminNote.builder()
@@ -214,18 +371,15 @@ public class JobApplicationService {
                 .addedAt(LocalDateTime.now())
                 .build();
 
-        application.getAdminNotes().add(adminNote);
-        application.setLastUpdated(LocalDateTime.now());
-
-        JobApplication updated = applicationRepository.save(application);
+        JobApplication updated = applicationRepository.pushAdminNote(id, adminNote)
+                .orElseThrow(() -> new RuntimeException("Application not found with id: " + id));
+        applicationCache.evict(id);
         log.info("Admin note added to application: {}", id);
 
         return updated;
     }
 
     public JobApplication scheduleInterview(String id, InterviewScheduleRequest interviewRequest) {
-        JobApplication application = getApplicationById(id);
-
         JobApplication.InterviewSchedule interview = JobApplication.InterviewSchedule.builder()
                 .round(interviewRequest.getRound())
                 .scheduledDate(interviewRequest.getScheduledDate())
@@ -236,27 +390,28 @@ public class JobApplicationService {
                 .status("scheduled")
                 .build();
 
-        application.getInterviewSchedule().add(interview);
-        application.setStatus("interview-scheduled");
-        application.setLastUpdated(LocalDateTime.now());
-
-        // Add to status history
+        // Interview, status and history change in one atomic $set/$push
         JobApplication.StatusHistory statusHistory = JobApplication.StatusHistory.builder()
                 .status("interview-scheduled")
                 .changedBy(getCurrentUsername())
                 .changedAt(LocalDateTime.now())
                 .notes("Interview scheduled for round " + interviewRequest.getRound())
                 .build();
-        application.getStatusHistory().add(statusHistory);
 
-        JobApplication updated = applicationRepository.save(application);
+        StatusTransition transition = applyStatusChange(id, statusHistory, interview);
+        JobApplication updated = transition.updated;
+        String previousStatus = transition.previousStatus;
         log.info("Interview scheduled for application: {}", id);
+        if (!"interview-scheduled".equals(previousStatus)) {
+            counterService.recordStatusChange(id, updated.getJobId(), previousStatus, "interview-scheduled");
+            eventBroadcaster.publish(toEvent(ApplicationEvent.STATUS_CHANGED, updated, previousStatus));
+        }
 
         // Send interview invitation email
         emailService.sendInterviewInvitation(
-                application.getEmail(),
-                application.getFirstName() + " " + application.getLastName(),
-                application.getJobTitle(),
+                updated.getEmail(),
+                updated.getFirstName() + " " + updated.getLastName(),
+                updated.getJobTitle(),
                 interviewRequest.getScheduledDate(),
                 interviewRequest.getInterviewer(),
                 interviewRequest.getType(),
@@ -267,23 +422,36 @@ public class JobApplicationService {
         return updated;
     }
 
-    public Map<String, String> trackApplication(String applicationId) {
-        JobApplication application = getApplicationById(applicationId);
-
-        Map<String, String> trackingInfo = new HashMap<>();
-        trackingInfo.put("applicationId", application.getApplicationId());
-        trackingInfo.put("jobTitle", application.getJobTitle());
-        trackingInfo.put("department", application.getDepartment());
-        trackingInfo.put("status", application.getStatus());
-        trackingInfo.put("applicationDate", application.getApplicationDate().toString());
-        trackingInfo.put("lastUpdated", application.getLastUpdated().toString());
-
-        return trackingInfo;
+    public ApplicationTracking trackApplication(String applicationId) {
+        return applicationCache.getTracking(applicationId, key -> applicationRepository.findTracking(key)
+                .or(() -> applicationRepository.findArchivedTracking(key))
+                .orElseThrow(() -> new RuntimeException("Application not found with id: " + key)));
     }
 
     public void deleteApplication(String id) {
-        JobApplication application = getApplicationById(id);
+        // Remove the row first and unconditionally: the resume only goes once no application points at it
+        Optional<JobApplication> removed = applicationRepository.removeByApplicationId(id);
+        if (removed.isPresent()) {
+            JobApplication application = removed.get();
+            applicationCache.evict(id);
+            log.info("Application deleted: {}", id);
+            // Counters follow the row as removed, not as some earlier read saw it
+            counterService.recordDeletion(application);
+            eventBroadcaster.publish(toEvent(ApplicationEvent.APPLICATION_DELETED, application, null));
+            deleteResume(application);
+            return;
+        }
 
+        // Archived ones are still counted, but were never part of the live dashboard feed
+        JobApplication archived = applicationRepository.removeArchived(id)
+                .orElseThrow(() -> new RuntimeException("Application not found with id: " + id));
+        applicationCache.evict(id);
+        log.info("Archived application deleted: {}", id);
+        counterService.recordDeletion(archived);
+        deleteResume(archived);
+    }
+
+    private void deleteResume(JobApplication application) {
         // Delete resume from S3
         try {
             String fileName = application.getResumeUrl().substring(application.getResumeUrl().lastIndexOf("/") + 1);
@@ -291,44 +459,102 @@ public class JobApplicationService {
         } catch (Exception e) {
             log.error("Error deleting resume file: {}", e.getMessage());
         }
-
-        // Delete application
-        applicationRepository.delete(application);
-        log.info("Application deleted: {}", id);
     }
 
     public Map<String, Object> getDashboardStats() {
+        ApplicationCounters counters = counterService.getCounters();
         Map<String, Object> stats = new HashMap<>();
 
-        stats.put("totalApplications", applicationRepository.count());
+        stats.put("totalApplications", counters.getTotal());
 
-        // Stats by status
+        // Stats by status, always listing every pipeline stage
         Map<String, Long> byStatus = new HashMap<>();
-        byStatus.put("submitted", applicationRepository.countByStatus("submitted"));
-        byStatus.put("screening", applicationRepository.countByStatus("screening"));
-        byStatus.put("interview-scheduled", applicationRepository.countByStatus("interview-scheduled"));
-        byStatus.put("interview-completed", applicationRepository.countByStatus("interview-completed"));
-        byStatus.put("rejected", applicationRepository.countByStatus("rejected"));
-        byStatus.put("offer-extended", applicationRepository.countByStatus("offer-extended"));
-        byStatus.put("hired", applicationRepository.countByStatus("hired"));
+        for (String status : APPLICATION_STATUSES) {
+            byStatus.put(status, 0L);
+        }
+        byStatus.putAll(counters.getByStatus());
         stats.put("byStatus", byStatus);
 
-        // Stats by department
-        Map<String, Long> byDepartment = new HashMap<>();
-        byDepartment.put("Engineering", applicationRepository.countByDepartment("Engineering"));
-        byDepartment.put("Design", applicationRepository.countByDepartment("Design"));
-        byDepartment.put("Management", applicationRepository.countByDepartment("Management"));
-        stats.put("byDepartment", byDepartment);
+        stats.put("byDepartment", counters.getByDepartment());
+        stats.put("byJob", counters.getByJob());
 
         return stats;
     }
 
+    public Map<String, Object> reconcileDashboardStats() {
+        counterService.reconcile();
+        return getDashboardStats();
+    }
+
     public List<JobApplication> getRecentApplications() {
         return applicationRepository.findTop10ByOrderByApplicationDateDesc();
     }
 
-    public List<JobApplication> getPendingReviews() {
-        return applicationRepository.findPendingReviews();
+    public CursorPageResponse<PendingReviewItem> getPendingReviews(String cursor, int limit, boolean includeTotal) {
+        int pageSize = Math.max(limit, 1);
+        List<PendingReviewItem> items = applicationRepository.findPendingReviewsAfter(
+                PageCursor.decode(cursor), pageSize + 1);
+        boolean hasMore = items.size() > pageSize;
+        List<PendingReviewItem> content = hasMore ? items.subList(0, pageSize) : items;
+
+        String nextCursor = null;
+        if (hasMore) {
+            PendingReviewItem last = content.get(content.size() - 1);
+            nextCursor = new PageCursor(last.getApplicationDate(), last.getApplicationId()).encode();
+        }
+
+        return CursorPageResponse.<PendingReviewItem>builder()
+                .content(content)
+                .pageSize(pageSize)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .totalElements(includeTotal ? applicationRepository.countPendingReviews() : null)
+                .build();
+    }
+
+    /**
+     * Writes the whole pending-review queue as newline-delimited JSON, one
+     * application per line, straight from the Mongo cursor.
+     */
+    public long writePendingReviews(OutputStream out) throws IOException {
+        long written = 0;
+        try (Stream<PendingReviewItem> items = applicationRepository.streamPendingReviews()) {
+            Iterator<PendingReviewItem> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                out.write(jsonMapper.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+                written++;
+            }
+        }
+        out.flush();
+        return written;
+    }
+
+    public long archiveClosedApplications() {
+        return archiveService.archive();
+    }
+
+    public Map<String, Object> getCacheStats() {
+        return applicationCache.stats();
+    }
+
+    public SseEmitter subscribeToEvents() {
+        return eventBroadcaster.subscribe();
+    }
+
+    private ApplicationEvent toEvent(String type, JobApplication application, String previousStatus) {
+        return ApplicationEvent.builder()
+                .type(type)
+                .applicationId(application.getApplicationId())
+                .jobId(application.getJobId())
+                .jobTitle(application.getJobTitle())
+                .department(application.getDepartment())
+                .applicantName(application.getFirstName() + " " + application.getLastName())
+                .status(application.getStatus())
+                .previousStatus(previousStatus)
+                .applicationDate(application.getApplicationDate())
+                .occurredAt(LocalDateTime.now())
+                .build();
     }
 
     private String getCurrentUsername() {
@@ -358,4 +584,14 @@ public class JobApplicationService {
                 .first(page.isFirst())
                 .build();
     }
+
+    private static final class StatusTransition {
+        private final String previousStatus;
+        private final JobApplication updated;
+
+        private StatusTransition(String previousStatus, JobApplication updated) {
+            this.previousStatus = previousStatus;
+            this.updated = updated;
+        }
+    }
 }
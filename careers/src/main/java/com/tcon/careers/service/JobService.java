@@ -1,10 +1,16 @@
 package com.tcon.careers.service;
 
+import com.tcon.careers.dto.CursorPageResponse;
+import com.tcon.careers.dto.JobSummary;
+import com.tcon.careers.dto.PageCursor;
 import com.tcon.careers.dto.PageResponse;
+import com.tcon.careers.dto.ResourceVersion;
+import com.tcon.careers.exception.ConcurrentUpdateException;
 import com.tcon.careers.model.Job;
 import com.tcon.careers.repository.JobRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,9 +18,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -22,29 +30,84 @@ import java.util.Map;
 public class JobService {
 
     private final JobRepository jobRepository;
+    private final JobSnapshotService jobSnapshotService;
 
-    public PageResponse<Job> getAllActiveJobs(String department, String location, String type,
+    @Value("${app.jobs.snapshot.enabled:true}")
+    private boolean snapshotEnabled;
+
+    @Value("${app.jobs.stats.cache-ttl-ms:30000}")
+    private long statsCacheTtlMs;
+
+    private volatile CachedStats cachedStats;
+
+    // Bumped on every job write; cached stats from an older generation are never served
+    private final AtomicLong statsGeneration = new AtomicLong();
+
+    public PageResponse<JobSummary> getAllActiveJobs(String department, String location, String type,
                                               String experience, String search, int page, int size) {
+        if (snapshotEnabled) {
+            return jobSnapshotService.query(department, location, type, experience, search, page, size);
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "postedDate"));
-        Page<Job> jobPage;
-
-        if (search != null && !search.isEmpty()) {
-            jobPage = jobRepository.searchActiveJobs(search, pageable);
-        } else if (department != null && !department.isEmpty()) {
-            jobPage = jobRepository.findByIsActiveTrueAndDepartment(department, pageable);
-        } else if (location != null && !location.isEmpty()) {
-            jobPage = jobRepository.findByIsActiveTrueAndLocation(location, pageable);
-        } else if (type != null && !type.isEmpty()) {
-            jobPage = jobRepository.findByIsActiveTrueAndType(type, pageable);
-        } else if (experience != null && !experience.isEmpty()) {
-            jobPage = jobRepository.findByIsActiveTrueAndExperience(experience, pageable);
-        } else {
-            jobPage = jobRepository.findByIsActiveTrue(pageable);
+        Page<JobSummary> jobPage = jobRepository.findActiveJobs(department, location, type, experience, search, pageable);
+        return mapToPageResponse(jobPage);
+    }
+
+    public CursorPageResponse<JobSummary> getActiveJobsByCursor(String department, String location, String type,
+                                                         String experience, String search, String cursor,
+                                                         int limit, boolean includeTotal) {
+        PageCursor after = PageCursor.decode(cursor);
+        if (snapshotEnabled) {
+            return jobSnapshotService.queryByCursor(department, location, type, experience, search,
+                    after, limit, includeTotal);
         }
 
+        int pageSize = Math.max(limit, 1);
+        List<JobSummary> jobs = jobRepository.findActiveJobsAfter(department, location, type, experience, search,
+                after, pageSize + 1);
+        boolean hasMore = jobs.size() > pageSize;
+        List<JobSummary> content = hasMore ? jobs.subList(0, pageSize) : jobs;
+
+        return CursorPageResponse.<JobSummary>builder()
+                .content(content)
+                .pageSize(pageSize)
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? JobSnapshotService.cursorOf(content.get(content.size() - 1)) : null)
+                .totalElements(includeTotal
+                        ? jobRepository.countActiveJobs(department, location, type, experience, search)
+                        : null)
+                .build();
+    }
+
+    public ResourceVersion getCatalogVersion() {
+        if (snapshotEnabled) {
+            return jobSnapshotService.getSnapshot().getVersion();
+        }
+        return jobSnapshotService.computeCatalogVersion();
+    }
+
+    public ResourceVersion getJobVersion(Job job) {
+        LocalDateTime modifiedAt = job.getUpdatedAt() != null ? job.getUpdatedAt() : job.getCreatedAt();
+        return ResourceVersion.of("job:" + job.getId(), modifiedAt);
+    }
+
+    public PageResponse<Job> getAllJobsForAdmin(Boolean isActive, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "postedDate"));
+        Page<Job> jobPage = isActive != null
+                ? jobRepository.findByIsActive(isActive, pageable)
+                : jobRepository.findAll(pageable);
         return mapToPageResponse(jobPage);
     }
 
+    public Job getPublicJobById(String id) {
+        // Applicant counters are admin-only and change without bumping updatedAt
+        Job job = getJobById(id);
+        job.setApplicationCount(null);
+        job.setApplicationsByStatus(null);
+        return job;
+    }
+
     public Job getJobById(String id) {
         return jobRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Job not found with id: " + id));
@@ -55,80 +118,64 @@ public class JobService {
         job.setCreatedAt(LocalDateTime.now());
         job.setUpdatedAt(LocalDateTime.now());
         job.setIsActive(true);
+        job.setVersion(null);
+        job.setApplicationCount(0L);
+        job.setApplicationsByStatus(new HashMap<>());
 
         Job savedJob = jobRepository.save(job);
         log.info("Job created successfully with id: {}", savedJob.getId());
+        onJobsChanged();
         return savedJob;
     }
 
     public Job updateJob(String id, Job jobUpdate) {
-        Job existingJob = getJobById(id);
-
-        existingJob.setTitle(jobUpdate.getTitle());
-        existingJob.setDepartment(jobUpdate.getDepartment());
-        existingJob.setLocation(jobUpdate.getLocation());
-        existingJob.setType(jobUpdate.getType());
-        existingJob.setSalary(jobUpdate.getSalary());
-        existingJob.setExperience(jobUpdate.getExperience());
-        existingJob.setDescription(jobUpdate.getDescription());
-        existingJob.setRequirements(jobUpdate.getRequirements());
-        existingJob.setResponsibilities(jobUpdate.getResponsibilities());
-        existingJob.setColor(jobUpdate.getColor());
-        existingJob.setClosingDate(jobUpdate.getClosingDate());
-        existingJob.setUpdatedAt(LocalDateTime.now());
-
-        Job updated = jobRepository.save(existingJob);
+        Job updated = jobRepository.updateJobDetails(id, jobUpdate).orElseGet(() -> {
+            if (jobUpdate.getVersion() != null && jobRepository.existsById(id)) {
+                // The admin edited an older version; retrying would silently discard the other change
+                throw new ConcurrentUpdateException("Job " + id + " was modified by someone else. Please reload and try again.");
+            }
+            throw new RuntimeException("Job not found with id: " + id);
+        });
         log.info("Job updated successfully with id: {}", id);
+        onJobsChanged();
         return updated;
     }
 
     public Job toggleJobStatus(String id, boolean isActive) {
-        Job job = getJobById(id);
-        job.setIsActive(isActive);
-        job.setUpdatedAt(LocalDateTime.now());
-        Job updated = jobRepository.save(job);
+        Job updated = jobRepository.updateActiveFlag(id, isActive)
+                .orElseThrow(() -> new RuntimeException("Job not found with id: " + id));
         log.info("Job status updated to {} for id: {}", isActive, id);
+        onJobsChanged();
         return updated;
     }
 
     public void deleteJob(String id) {
-        Job job = getJobById(id);
-        job.setIsActive(false);
-        job.setUpdatedAt(LocalDateTime.now());
-        jobRepository.save(job);
+        jobRepository.updateActiveFlag(id, false)
+                .orElseThrow(() -> new RuntimeException("Job not found with id: " + id));
         log.info("Job soft deleted with id: {}", id);
+        onJobsChanged();
     }
 
     public Map<String, Object> getJobStats() {
-        Map<String, Object> stats = new HashMap<>();
-
-        stats.put("totalActiveJobs", jobRepository.countByIsActiveTrue());
-        stats.put("totalJobs", jobRepository.count());
-
-        // Stats by department
-        Map<String, Long> byDepartment = new HashMap<>();
-        byDepartment.put("Engineering", jobRepository.countByDepartment("Engineering"));
-        byDepartment.put("Design", jobRepository.countByDepartment("Design"));
-        byDepartment.put("Management", jobRepository.countByDepartment("Management"));
-        stats.put("byDepartment", byDepartment);
-
-        // Stats by location
-        Map<String, Long> byLocation = new HashMap<>();
-        byLocation.put("Remote", jobRepository.countByLocation("Remote"));
-        byLocation.put("Hybrid", jobRepository.countByLocation("Hybrid"));
-        byLocation.put("On-site", jobRepository.countByLocation("On-site"));
-        stats.put("byLocation", byLocation);
-
-        // Stats by type
-        Map<String, Long> byType = new HashMap<>();
-        byType.put("Full-time", jobRepository.countByType("Full-time"));
-        byType.put("Part-time", jobRepository.countByType("Part-time"));
-        byType.put("Contract", jobRepository.countByType("Contract"));
-        stats.put("byType", byType);
+        // Read before aggregating: a result computed across a job write is tagged with the old generation
+        long generation = statsGeneration.get();
+        CachedStats cached = cachedStats;
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.generation == generation && cached.expiresAt > now) {
+            return cached.stats;
+        }
 
+        Map<String, Object> stats = Collections.unmodifiableMap(jobRepository.aggregateJobStats());
+        cachedStats = new CachedStats(stats, now + statsCacheTtlMs, generation);
         return stats;
     }
 
+    private void onJobsChanged() {
+        statsGeneration.incrementAndGet();
+        cachedStats = null;
+        jobSnapshotService.refreshAfterWrite();
+    }
+
     private <T> PageResponse<T> mapToPageResponse(Page<T> page) {
         return PageResponse.<T>builder()
                 .content(page.getContent())
@@ -140,4 +187,16 @@ public class JobService {
                 .first(page.isFirst())
                 .build();
     }
+
+    private static final class CachedStats {
+        private final Map<String, Object> stats;
+        private final long expiresAt;
+        private final long generation;
+
+        private CachedStats(Map<String, Object> stats, long expiresAt, long generation) {
+            this.stats = stats;
+            this.expiresAt = expiresAt;
+            this.generation = generation;
+        }
+    }
 }
@@ -0,0 +1,286 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.dto.CursorPageResponse;
+import com.tcon.careers.dto.JobSummary;
+import com.tcon.careers.dto.PageCursor;
+import com.tcon.careers.dto.PageResponse;
+import com.tcon.careers.dto.ResourceVersion;
+import com.tcon.careers.model.Job;
+import com.tcon.careers.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Keeps an immutable in-memory copy of all active jobs so the public job board
+ * can be filtered, sorted and paged without touching MongoDB. Only list fields
+ * are kept, and callers get their own copies so they cannot alter the snapshot.
+ * The snapshot is swapped atomically after every job mutation and refreshed
+ * periodically to pick up writes made by other instances.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobSnapshotService {
+
+    private static final Comparator<JobSummary> POSTED_DATE_DESC = Comparator
+            .comparing(JobSummary::getPostedDate, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(JobSummary::getId, Comparator.nullsLast(Comparator.<String>reverseOrder()));
+
+    private final JobRepository jobRepository;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    public PageResponse<JobSummary> query(String department, String location, String type,
+                                   String experience, String search, int page, int size) {
+        List<JobSummary> matches = getSnapshot().filter(department, location, type, experience, search);
+        return toPageResponse(matches, page, size);
+    }
+
+    public CursorPageResponse<JobSummary> queryByCursor(String department, String location, String type,
+                                                 String experience, String search, PageCursor after,
+                                                 int limit, boolean includeTotal) {
+        List<JobSummary> matches = getSnapshot().filter(department, location, type, experience, search);
+        if (search != null && !search.isEmpty()) {
+            // Keyset pages follow postedDate order, so relevance ranking does not apply here
+            matches = new ArrayList<>(matches);
+            matches.sort(POSTED_DATE_DESC);
+        }
+
+        int from = 0;
+        if (after != null) {
+            JobSummary boundary = JobSummary.builder().postedDate(after.getTimestamp()).id(after.getId()).build();
+            while (from < matches.size() && POSTED_DATE_DESC.compare(matches.get(from), boundary) <= 0) {
+                from++;
+            }
+        }
+        int pageSize = Math.max(limit, 1);
+        int to = Math.min(from + pageSize, matches.size());
+        List<JobSummary> content = toSummaries(matches.subList(from, to));
+        boolean hasMore = to < matches.size();
+
+        return CursorPageResponse.<JobSummary>builder()
+                .content(content)
+                .pageSize(pageSize)
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? cursorOf(content.get(content.size() - 1)) : null)
+                .totalElements(includeTotal ? (long) matches.size() : null)
+                .build();
+    }
+
+    static String cursorOf(JobSummary job) {
+        return new PageCursor(job.getPostedDate(), job.getId()).encode();
+    }
+
+    public Snapshot getSnapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            snapshot = rebuild();
+        }
+        return snapshot;
+    }
+
+    public synchronized Snapshot rebuild() {
+        ResourceVersion version = computeCatalogVersion();
+        List<Job> activeJobs = jobRepository.findByIsActiveTrue(Sort.by(Sort.Direction.DESC, "postedDate"));
+        Snapshot snapshot = new Snapshot(activeJobs, version);
+        current.set(snapshot);
+        log.debug("Active job snapshot rebuilt with {} jobs", snapshot.size());
+        return snapshot;
+    }
+
+    /**
+     * Collection-level version: every job mutation bumps updatedAt, so the most
+     * recently updated job plus the total count identifies the catalog state.
+     */
+    public ResourceVersion computeCatalogVersion() {
+        long totalJobs = jobRepository.count();
+        return jobRepository.findTopByOrderByUpdatedAtDesc()
+                .map(job -> ResourceVersion.of("jobs:" + totalJobs + ":" + job.getId(), job.getUpdatedAt()))
+                .orElseGet(() -> ResourceVersion.of("jobs:" + totalJobs, null));
+    }
+
+    public void refreshAfterWrite() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // Keep serving the previous snapshot; the scheduled refresh will catch up
+            log.error("Failed to rebuild active job snapshot: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.snapshot.refresh-interval-ms:60000}",
+            initialDelayString = "${app.jobs.snapshot.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        refreshAfterWrite();
+    }
+
+    private PageResponse<JobSummary> toPageResponse(List<JobSummary> matches, int page, int size) {
+        int pageSize = Math.max(size, 1);
+        int pageNumber = Math.max(page, 0);
+        long total = matches.size();
+        int totalPages = (int) Math.ceil((double) total / pageSize);
+        int from = (int) Math.min((long) pageNumber * pageSize, total);
+        int to = (int) Math.min((long) from + pageSize, total);
+
+        return PageResponse.<JobSummary>builder()
+                .content(toSummaries(matches.subList(from, to)))
+                .pageNumber(pageNumber)
+                .pageSize(pageSize)
+                .totalElements(total)
+                .totalPages(totalPages)
+                .last(pageNumber + 1 >= totalPages)
+                .first(pageNumber == 0)
+                .build();
+    }
+
+    // Hand out copies: the snapshot's own summaries are shared by every request
+    private List<JobSummary> toSummaries(List<JobSummary> jobs) {
+        List<JobSummary> summaries = new ArrayList<>(jobs.size());
+        for (JobSummary job : jobs) {
+            summaries.add(job.toBuilder().build());
+        }
+        return summaries;
+    }
+
+    /**
+     * Immutable view of the active jobs, ordered by postedDate (newest first),
+     * with exact-match indexes on the public filter fields and a text index
+     * for relevance-ranked search.
+     */
+    public static final class Snapshot {
+
+        private final List<JobSummary> jobs;
+        private final Map<String, List<JobSummary>> byDepartment;
+        private final Map<String, List<JobSummary>> byLocation;
+        private final Map<String, List<JobSummary>> byType;
+        private final Map<String, List<JobSummary>> byExperience;
+        private final JobTextIndex textIndex;
+        private final ResourceVersion version;
+
+        private Snapshot(List<Job> activeJobs, ResourceVersion version) {
+            // The text index needs the full jobs, but only summaries are kept once it is built
+            List<JobSummary> summaries = new ArrayList<>(activeJobs.size());
+            List<Integer> order = new ArrayList<>(activeJobs.size());
+            for (Job job : activeJobs) {
+                order.add(summaries.size());
+                summaries.add(JobSummary.from(job));
+            }
+            order.sort(Comparator.comparing(summaries::get, POSTED_DATE_DESC));
+            List<Job> sortedJobs = new ArrayList<>(order.size());
+            List<JobSummary> sorted = new ArrayList<>(order.size());
+            for (Integer position : order) {
+                sortedJobs.add(activeJobs.get(position));
+                sorted.add(summaries.get(position));
+            }
+            this.jobs = Collections.unmodifiableList(sorted);
+            this.byDepartment = index(sorted, JobSummary::getDepartment);
+            this.byLocation = index(sorted, JobSummary::getLocation);
+            this.byType = index(sorted, JobSummary::getType);
+            this.byExperience = index(sorted, JobSummary::getExperience);
+            this.textIndex = new JobTextIndex(sortedJobs);
+            this.version = version;
+        }
+
+        public ResourceVersion getVersion() {
+            return version;
+        }
+
+        public int size() {
+            return jobs.size();
+        }
+
+        List<JobSummary> filter(String department, String location, String type,
+                                String experience, String search) {
+            if (hasText(search)) {
+                return search(department, location, type, experience, search);
+            }
+
+            // Start from the most selective index, then check the remaining fields per job
+            List<JobSummary> candidates = jobs;
+            candidates = narrow(candidates, byDepartment, department);
+            candidates = narrow(candidates, byLocation, location);
+            candidates = narrow(candidates, byType, type);
+            candidates = narrow(candidates, byExperience, experience);
+
+            List<JobSummary> result = new ArrayList<>(candidates.size());
+            for (JobSummary job : candidates) {
+                if (matchesFilters(job, department, location, type, experience)) {
+                    result.add(job);
+                }
+            }
+            return result;
+        }
+
+        private List<JobSummary> search(String department, String location, String type,
+                                 String experience, String search) {
+            Map<Integer, Double> scores = textIndex.score(search);
+            List<Integer> hits = new ArrayList<>(scores.size());
+            for (Integer doc : scores.keySet()) {
+                JobSummary job = jobs.get(doc);
+                if (matchesFilters(job, department, location, type, experience)) {
+                    hits.add(doc);
+                }
+            }
+
+            // Highest score first; ties keep snapshot order (newest postedDate first)
+            hits.sort(Comparator.<Integer>comparingDouble(scores::get).reversed()
+                    .thenComparing(Comparator.naturalOrder()));
+            List<JobSummary> result = new ArrayList<>(hits.size());
+            for (Integer doc : hits) {
+                result.add(jobs.get(doc));
+            }
+            return result;
+        }
+
+        private static boolean matchesFilters(JobSummary job, String department, String location,
+                                              String type, String experience) {
+            return matches(job.getDepartment(), department)
+                    && matches(job.getLocation(), location)
+                    && matches(job.getType(), type)
+                    && matches(job.getExperience(), experience);
+        }
+
+        private static List<JobSummary> narrow(List<JobSummary> candidates, Map<String, List<JobSummary>> index,
+                                               String value) {
+            if (!hasText(value)) {
+                return candidates;
+            }
+            List<JobSummary> indexed = index.getOrDefault(value, List.of());
+            return indexed.size() < candidates.size() ? indexed : candidates;
+        }
+
+        private static boolean matches(String actual, String expected) {
+            return !hasText(expected) || expected.equals(actual);
+        }
+
+        private static Map<String, List<JobSummary>> index(List<JobSummary> sorted,
+                                                           Function<JobSummary, String> field) {
+            Map<String, List<JobSummary>> index = new HashMap<>();
+            for (JobSummary job : sorted) {
+                String key = field.apply(job);
+                if (key != null) {
+                    index.computeIfAbsent(key, k -> new ArrayList<>()).add(job);
+                }
+            }
+            index.replaceAll((k, v) -> Collections.unmodifiableList(v));
+            return Collections.unmodifiableMap(index);
+        }
+
+        private static boolean hasText(String value) {
+            return value != null && !value.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.model.Job;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index over job title, description and requirements, weighted the
+ * same way as the Mongo text index on {@link Job}. Documents are addressed by
+ * their position in the snapshot list.
+ */
+final class JobTextIndex {
+
+    static final int TITLE_WEIGHT = 10;
+    static final int REQUIREMENTS_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "our", "the", "to", "we", "will", "with", "you", "your"
+    );
+
+    private final Map<String, Map<Integer, Integer>> postings;
+    private final int documentCount;
+
+    JobTextIndex(List<Job> jobs) {
+        Map<String, Map<Integer, Integer>> index = new HashMap<>();
+        for (int doc = 0; doc < jobs.size(); doc++) {
+            Job job = jobs.get(doc);
+            addField(index, doc, job.getTitle(), TITLE_WEIGHT);
+            addField(index, doc, job.getDescription(), DESCRIPTION_WEIGHT);
+            if (job.getRequirements() != null) {
+                for (String requirement : job.getRequirements()) {
+                    addField(index, doc, requirement, REQUIREMENTS_WEIGHT);
+                }
+            }
+        }
+        index.replaceAll((term, docs) -> Collections.unmodifiableMap(docs));
+        this.postings = Collections.unmodifiableMap(index);
+        this.documentCount = jobs.size();
+    }
+
+    /**
+     * Scores every document containing at least one query term, using weighted
+     * term frequency scaled by inverse document frequency.
+     */
+    Map<Integer, Double> score(String query) {
+        Map<Integer, Double> scores = new HashMap<>();
+        for (String term : new LinkedHashSet<>(tokenize(query))) {
+            Map<Integer, Integer> docs = postings.get(term);
+            if (docs == null) {
+                continue;
+            }
+            double idf = Math.log(1.0 + (double) documentCount / docs.size());
+            docs.forEach((doc, weightedFrequency) ->
+                    scores.merge(doc, weightedFrequency * idf, Double::sum));
+        }
+        return scores;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    // Light suffix stripping so "engineers", "engineering" and "engineer" share a term
+    static String stem(String token) {
+        if (token.length() <= 3) {
+            return token;
+        }
+        if (token.endsWith("ies") && token.length() > 4) {
+            return token.substring(0, token.length() - 3) + "y";
+        }
+        if (token.endsWith("sses")) {
+            return token.substring(0, token.length() - 2);
+        }
+        if (token.endsWith("ing") && token.length() > 5) {
+            return token.substring(0, token.length() - 3);
+        }
+        if (token.endsWith("ed") && token.length() > 4) {
+            return token.substring(0, token.length() - 2);
+        }
+        if (token.endsWith("ly") && token.length() > 4) {
+            return token.substring(0, token.length() - 2);
+        }
+        if (token.endsWith("s") && !token.endsWith("ss") && !token.endsWith("us")) {
+            return token.substring(0, token.length() - 1);
+        }
+        return token;
+    }
+
+    private static void addField(Map<String, Map<Integer, Integer>> index, int doc, String text, int weight) {
+        for (String term : tokenize(text)) {
+            index.computeIfAbsent(term, t -> new HashMap<>()).merge(doc, weight, Integer::sum);
+        }
+    }
+}
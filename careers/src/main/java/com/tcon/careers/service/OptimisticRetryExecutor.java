@@ -0,0 +1,53 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.exception.ConcurrentUpdateException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a read-then-conditional-write attempt when it loses a version race.
+ * Attempts signal a lost race by throwing {@link OptimisticLockingFailureException};
+ * once the retries are used up the caller gets a {@link ConcurrentUpdateException}.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryExecutor {
+
+    @Value("${app.concurrency.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${app.concurrency.backoff-ms:20}")
+    private long backoffMs;
+
+    public <T> T execute(String resource, Supplier<T> attempt) {
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attemptNumber >= maxAttempts) {
+                    log.warn("Giving up on {} after {} conflicting attempts", resource, attemptNumber);
+                    throw new ConcurrentUpdateException(
+                            resource + " was modified concurrently. Please reload and try again.");
+                }
+                log.debug("Version conflict on {}, retrying (attempt {})", resource, attemptNumber + 1);
+                pause(attemptNumber);
+            }
+        }
+    }
+
+    private void pause(int attemptNumber) {
+        // Jittered linear backoff keeps competing writers from retrying in lockstep
+        long delay = backoffMs * attemptNumber + ThreadLocalRandom.current().nextLong(backoffMs + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateException("Interrupted while retrying a concurrent update");
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.tcon.careers.service;
+
+import com.opencsv.CSVWriter;
+import com.tcon.careers.dto.ApplicationFilter;
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.JobApplicationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Exports applications by splitting the matching applicationDate range into
+ * equal time windows that are read and formatted concurrently, each into its
+ * own temp file. Windows are copied to the output newest first as soon as
+ * each one finishes, so without archived rows the result is ordered like a
+ * single-cursor export. With includeArchived each window lists its hot rows
+ * newest first and then its archived rows newest first. Applications without
+ * an applicationDate are exported last, in a window of their own, unless the
+ * filter has a date range.
+ */
+@Slf4j
+@Service
+public class PartitionedExportService {
+
+    public static final String CSV = "csv";
+    public static final String NDJSON = "ndjson";
+
+    private final JobApplicationRepository applicationRepository;
+    private final JsonMapper jsonMapper;
+    private final ThreadPoolExecutor workers;
+    private final int parallelism;
+
+    @Value("${app.export.partitioned.max-partitions:64}")
+    private int maxPartitions;
+
+    public PartitionedExportService(JobApplicationRepository applicationRepository,
+                                    JsonMapper jsonMapper,
+                                    @Value("${app.export.partitioned.parallelism:4}") int parallelism,
+                                    @Value("${app.export.partitioned.queue-capacity:256}") int queueCapacity) {
+        this.applicationRepository = applicationRepository;
+        this.jsonMapper = jsonMapper;
+        this.parallelism = Math.max(parallelism, 1);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(this.parallelism, this.parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "export-partition-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queues every window of the export before anything is written, so a full
+     * queue can still be answered with 503. The returned export must be written.
+     *
+     * @param partitions number of date windows; 0 or less uses the configured parallelism
+     * @throws IllegalStateException when the partition queue has no room for this export
+     */
+    public PendingExport start(ApplicationFilter filter, String format, int partitions) throws IOException {
+        if (!CSV.equals(format) && !NDJSON.equals(format)) {
+            throw new IllegalArgumentException("Format must be csv or ndjson");
+        }
+        int windowCount = Math.min(partitions > 0 ? partitions : parallelism, Math.max(maxPartitions, 1));
+
+        List<Window> windows = new ArrayList<>(windowCount + 1);
+        Optional<Range<LocalDateTime>> range = applicationRepository.findApplicationDateRange(filter);
+        range.ifPresent(dated -> windows.addAll(split(dated, windowCount)));
+        if (filter.getDateFrom() == null && filter.getDateTo() == null) {
+            // Same rows as ExportService.writeCsv; undated ones sort last there too
+            windows.add(Window.UNDATED);
+        }
+
+        Path workDir = Files.createTempDirectory("careers-export-");
+        List<Future<Partition>> pending = new ArrayList<>(windows.size());
+        try {
+            for (Window window : windows) {
+                pending.add(workers.submit(() -> writePartition(filter, window, format, workDir)));
+            }
+        } catch (RejectedExecutionException e) {
+            pending.forEach(future -> future.cancel(true));
+            deleteDirectory(workDir);
+            throw new IllegalStateException("Too many exports in progress. Please try again later.");
+        }
+        return new PendingExport(format, windows.size(), workDir, pending);
+    }
+
+    public long write(ApplicationFilter filter, String format, int partitions, OutputStream out) throws IOException {
+        return start(filter, format, partitions).writeTo(out);
+    }
+
+    /**
+     * An export whose windows are queued or running; writeTo copies them out in order.
+     */
+    public final class PendingExport {
+        private final String format;
+        private final int windowCount;
+        private final Path workDir;
+        private final List<Future<Partition>> pending;
+
+        private PendingExport(String format, int windowCount, Path workDir, List<Future<Partition>> pending) {
+            this.format = format;
+            this.windowCount = windowCount;
+            this.workDir = workDir;
+            this.pending = pending;
+        }
+
+        public long writeTo(OutputStream out) throws IOException {
+            long rows = 0;
+            try {
+                if (CSV.equals(format)) {
+                    CSVWriter header = new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                    header.writeNext(ExportService.HEADERS);
+                    header.flush();
+                }
+                for (Future<Partition> future : pending) {
+                    Partition partition = future.get();
+                    Files.copy(partition.file, out);
+                    Files.deleteIfExists(partition.file);
+                    rows += partition.rows;
+                }
+                out.flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Partitioned export interrupted");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof IOException io ? io : new IOException("Partitioned export failed", cause);
+            } finally {
+                pending.forEach(future -> future.cancel(true));
+                if (workDir != null) {
+                    deleteDirectory(workDir);
+                }
+            }
+
+            log.info("Streamed {} applications as {} from {} partitions", rows, format, windowCount);
+            return rows;
+        }
+    }
+
+    private Partition writePartition(ApplicationFilter filter, Window window, String format,
+                                     Path workDir) throws IOException {
+        Path file = Files.createTempFile(workDir, "partition-", "." + format);
+        long rows = 0;
+        try (Stream<JobApplication> applications = window == Window.UNDATED
+                     ? applicationRepository.streamUndatedApplications(filter, ExportService.FIELDS)
+                     : applicationRepository.streamApplications(filter, window.from, window.until, ExportService.FIELDS);
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            Iterator<JobApplication> iterator = applications.iterator();
+            if (CSV.equals(format)) {
+                CSVWriter csvWriter = new CSVWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+                while (iterator.hasNext()) {
+                    checkInterrupted();
+                    csvWriter.writeNext(ExportService.toRow(iterator.next()));
+                    rows++;
+                }
+                csvWriter.flush();
+            } else {
+                while (iterator.hasNext()) {
+                    checkInterrupted();
+                    out.write(jsonMapper.writeValueAsBytes(ExportService.toRecord(iterator.next())));
+                    out.write('\n');
+                    rows++;
+                }
+            }
+        }
+        return new Partition(file, rows);
+    }
+
+    // Windows cover [earliest, latest] with no overlap, newest first
+    static List<Window> split(Range<LocalDateTime> range, int windowCount) {
+        LocalDateTime earliest = range.getLowerBound().getValue().orElseThrow();
+        // Mongo stores milliseconds, so one millisecond past the latest row closes the last window
+        LocalDateTime end = range.getUpperBound().getValue().orElseThrow().plus(1, ChronoUnit.MILLIS);
+        long spanNanos = Duration.between(earliest, end).toNanos();
+
+        List<Window> windows = new ArrayList<>(windowCount);
+        for (int i = windowCount - 1; i >= 0; i--) {
+            LocalDateTime from = earliest.plusNanos(spanNanos / windowCount * i);
+            LocalDateTime until = i == windowCount - 1 ? end : earliest.plusNanos(spanNanos / windowCount * (i + 1));
+            windows.add(new Window(from, until));
+        }
+        return windows;
+    }
+
+    private void checkInterrupted() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Export partition cancelled");
+        }
+    }
+
+    private void deleteDirectory(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            log.warn("Could not clean up export directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    static final class Window {
+        // Applications with no applicationDate at all
+        static final Window UNDATED = new Window(null, null);
+
+        final LocalDateTime from;
+        final LocalDateTime until;
+
+        Window(LocalDateTime from, LocalDateTime until) {
+            this.from = from;
+            this.until = until;
+        }
+    }
+
+    private static final class Partition {
+        private final Path file;
+        private final long rows;
+
+        private Partition(Path file, long rows) {
+            this.file = file;
+            this.rows = rows;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.JobApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Populates searchTokens on applications written before the field existed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchTokenBackfillService {
+
+    private final JobApplicationRepository applicationRepository;
+
+    @Value("${app.applications.search-backfill.batch-size:500}")
+    private int batchSize;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            long updated = backfill();
+            if (updated > 0) {
+                log.info("Backfilled search tokens for {} applications", updated);
+            }
+        } catch (Exception e) {
+            log.error("Search token backfill failed: {}", e.getMessage());
+        }
+    }
+
+    public long backfill() {
+        long updated = 0;
+        List<JobApplication> batch;
+        do {
+            batch = applicationRepository.findWithoutSearchTokens(batchSize);
+            Map<String, List<String>> tokens = new LinkedHashMap<>();
+            for (JobApplication application : batch) {
+                tokens.put(application.getApplicationId(), ApplicantSearchTokens.forApplicant(
+                        application.getFirstName(), application.getLastName(), application.getEmail()));
+            }
+            applicationRepository.setSearchTokens(tokens);
+            updated += batch.size();
+        } while (batch.size() == batchSize);
+        return updated;
+    }
+}
@@ -0,0 +1,120 @@
+package com.tcon.careers.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Small read-through cache bounded by entry count (least recently used first)
+ * and by time to live. Loads run outside the lock; a load that overlaps an
+ * eviction is returned to its caller but not stored, so an evicted entry
+ * cannot be resurrected with stale data.
+ */
+public final class TtlCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong sizeEvictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // Bumped on every invalidation; a load only stores its result if this did not move meanwhile
+    private long generation;
+
+    public TtlCache(String name, int maxSize, long ttlMillis) {
+        this.name = name;
+        this.maxSize = Math.max(maxSize, 1);
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > System.currentTimeMillis()) {
+                    hits.incrementAndGet();
+                    return entry.value;
+                }
+                entries.remove(key);
+                expirations.incrementAndGet();
+            }
+            loadGeneration = generation;
+        }
+
+        misses.incrementAndGet();
+        V value = loader.apply(key);
+        if (value == null || ttlMillis <= 0) {
+            return value;
+        }
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+                trimToSize();
+            }
+        }
+        return value;
+    }
+
+    public synchronized void evict(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        invalidations.addAndGet(entries.size());
+        entries.clear();
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long requests = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", name);
+        synchronized (this) {
+            stats.put("size", entries.size());
+        }
+        stats.put("maxSize", maxSize);
+        stats.put("ttlMillis", ttlMillis);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", requests == 0 ? 0.0 : (double) hitCount / requests);
+        stats.put("expirations", expirations.get());
+        stats.put("sizeEvictions", sizeEvictions.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            sizeEvictions.incrementAndGet();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.tcon.careers;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Base for tests that need a real MongoDB (text search, bulk writes, aggregation).
+ * Connects to -Dtest.mongodb.uri, TEST_MONGODB_URI or a local mongod, and skips the
+ * tests when none answers. Each test starts from an empty careers_test database.
+ */
+public abstract class MongoIntegrationTest {
+
+    private static final String DEFAULT_URI = "mongodb://localhost:27017";
+    private static final String DATABASE = "careers_test";
+
+    private static MongoClient client;
+
+    protected static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void connect() {
+        String uri = System.getProperty("test.mongodb.uri", System.getenv().getOrDefault("TEST_MONGODB_URI", DEFAULT_URI));
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(uri))
+                .applyToClusterSettings(cluster -> cluster.serverSelectionTimeout(2, TimeUnit.SECONDS))
+                .build());
+        assumeTrue(isReachable(), "No MongoDB at " + uri);
+        mongoTemplate = new MongoTemplate(client, DATABASE);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @BeforeEach
+    void dropDatabase() {
+        mongoTemplate.getDb().drop();
+    }
+
+    // Spring Data repository proxy over the test template, with its *CustomImpl fragment
+    protected static <T> T repository(Class<T> repositoryType, Object customImplementation) {
+        return new MongoRepositoryFactory(mongoTemplate).getRepository(repositoryType, customImplementation);
+    }
+
+    private static boolean isReachable() {
+        try {
+            client.getDatabase("admin").runCommand(new Document("ping", 1));
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.tcon.careers.config;
+
+import com.tcon.careers.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MongoIndexInitializerTests {
+
+    private MongoTemplate mongoTemplate;
+    private IndexOperations indexOps;
+    private JobRepository jobRepository;
+    private MongoIndexInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        indexOps = mock(IndexOperations.class);
+        jobRepository = mock(JobRepository.class);
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.indexOps(any(Class.class))).thenReturn(indexOps);
+        initializer = new MongoIndexInitializer(mongoTemplate, jobRepository);
+    }
+
+    @Test
+    void skipsAnIndexThatCannotBeCreated() {
+        when(indexOps.createIndex(any(IndexDefinition.class)))
+                .thenThrow(new UncategorizedMongoDbException("Index already exists with different options", null));
+
+        initializer.createIndexes();
+
+        verify(indexOps, atLeast(2)).createIndex(any(IndexDefinition.class));
+        verify(jobRepository).ensureTextIndex();
+    }
+
+    @Test
+    void failsOnTheFirstIndexWhenMongoIsUnreachable() {
+        when(indexOps.createIndex(any(IndexDefinition.class)))
+                .thenThrow(new DataAccessResourceFailureException("Timed out while waiting for a server"));
+
+        assertThatThrownBy(initializer::createIndexes).isInstanceOf(DataAccessResourceFailureException.class);
+
+        verify(indexOps, times(1)).createIndex(any(IndexDefinition.class));
+        verify(jobRepository, never()).ensureTextIndex();
+    }
+}
@@ -0,0 +1,41 @@
+package com.tcon.careers.controller;
+
+import com.tcon.careers.service.DeltaExportService;
+import com.tcon.careers.service.ExportJobService;
+import com.tcon.careers.service.ExportService;
+import com.tcon.careers.service.PartitionedExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class ExportControllerTests {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ExportController controller = new ExportController(mock(ExportService.class), mock(ExportJobService.class),
+                mock(DeltaExportService.class), mock(PartitionedExportService.class));
+        ReflectionTestUtils.setField(controller, "streamTimeoutMs", 1_800_000L);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setAsyncRequestTimeout(30_000)
+                .build();
+    }
+
+    @Test
+    void streamedExportsGetTheLongTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/admin/exports/applications.csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(1_800_000L);
+    }
+}
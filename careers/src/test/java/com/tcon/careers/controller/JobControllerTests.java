@@ -0,0 +1,82 @@
+package com.tcon.careers.controller;
+
+import com.tcon.careers.dto.ResourceVersion;
+import com.tcon.careers.model.Job;
+import com.tcon.careers.service.JobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conditional GET on the public job endpoints.
+ */
+class JobControllerTests {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 3, 14, 9, 0);
+    private static final ResourceVersion CATALOG = ResourceVersion.of("jobs:2:job-1", UPDATED_AT);
+
+    private JobService jobService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        jobService = mock(JobService.class);
+        when(jobService.getCatalogVersion()).thenReturn(CATALOG);
+        mockMvc = MockMvcBuilders.standaloneSetup(new JobController(jobService)).build();
+    }
+
+    @Test
+    void listingCarriesValidatorsAndAsksCachesToRevalidate() throws Exception {
+        mockMvc.perform(get("/api/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, CATALOG.getEtag()))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, CATALOG.getLastModifiedMillis()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"));
+    }
+
+    @Test
+    void matchingEtagAnswersNotModifiedWithoutBuildingTheListing() throws Exception {
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.IF_NONE_MATCH, CATALOG.getEtag()))
+                .andExpect(status().isNotModified());
+
+        verify(jobService, never()).getAllActiveJobs(any(), any(), any(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void statsHonourIfModifiedSince() throws Exception {
+        String lastModified = mockMvc.perform(get("/api/jobs/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get("/api/jobs/stats").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void jobIsValidatedAgainstItsOwnVersion() throws Exception {
+        Job job = Job.builder().id("job-1").title("Backend Developer").updatedAt(UPDATED_AT).build();
+        ResourceVersion version = ResourceVersion.of("job:job-1", UPDATED_AT);
+        when(jobService.getPublicJobById("job-1")).thenReturn(job);
+        when(jobService.getJobVersion(job)).thenReturn(version);
+
+        mockMvc.perform(get("/api/jobs/job-1").header(HttpHeaders.IF_NONE_MATCH, CATALOG.getEtag()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.getEtag()));
+        mockMvc.perform(get("/api/jobs/job-1").header(HttpHeaders.IF_NONE_MATCH, version.getEtag()))
+                .andExpect(status().isNotModified());
+    }
+}
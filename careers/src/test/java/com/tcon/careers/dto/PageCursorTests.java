@@ -0,0 +1,49 @@
+package com.tcon.careers.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTests {
+
+    @Test
+    void roundTripsTimestampAndId() {
+        LocalDateTime timestamp = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000);
+
+        PageCursor cursor = PageCursor.decode(new PageCursor(timestamp, "APP-1|b").encode());
+
+        assertThat(cursor.getTimestamp()).isEqualTo(timestamp);
+        assertThat(cursor.getId()).isEqualTo("APP-1|b");
+    }
+
+    @Test
+    void roundTripsAMissingTimestamp() {
+        PageCursor cursor = PageCursor.decode(new PageCursor(null, "APP-1").encode());
+
+        assertThat(cursor.getTimestamp()).isNull();
+        assertThat(cursor.getId()).isEqualTo("APP-1");
+    }
+
+    @Test
+    void noTokenMeansTheFirstPage() {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode("")).isNull();
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> PageCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(token("2025-03-14T09:26:53"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(token("2025-03-14T09:26:53|"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(token("yesterday|APP-1"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,131 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.model.JobApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobApplicationArchiveTests extends MongoIntegrationTest {
+
+    private static final List<String> CLOSED = List.of("rejected", "hired");
+
+    private JobApplicationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = repository(JobApplicationRepository.class, new JobApplicationRepositoryCustomImpl(mongoTemplate));
+        repository.saveAll(List.of(closedApplication("a"), closedApplication("b")));
+    }
+
+    @Test
+    void movesClaimedRowsToTheArchive() {
+        List<JobApplication> moved = repository.moveToArchive(archivable());
+
+        assertThat(moved).extracting(JobApplication::getApplicationId).containsExactlyInAnyOrder("a", "b");
+        assertThat(repository.count()).isZero();
+        assertThat(repository.findArchivedById("a")).isPresent();
+        assertThat(repository.findArchivedById("b")).isPresent();
+    }
+
+    @Test
+    void overlappingRunsReportEachRowOnce() {
+        List<JobApplication> first = archivable();
+        List<JobApplication> second = archivable();
+
+        assertThat(repository.moveToArchive(first)).hasSize(2);
+        assertThat(repository.moveToArchive(second)).isEmpty();
+
+        // The losing run must not take back the winner's copies
+        assertThat(repository.findArchivedById("a")).isPresent();
+        assertThat(repository.findArchivedById("b")).isPresent();
+    }
+
+    @Test
+    void rowDeletedAfterTheReadIsNotResurrected() {
+        List<JobApplication> batch = archivable();
+        repository.deleteById("a");
+
+        List<JobApplication> moved = repository.moveToArchive(batch);
+
+        assertThat(moved).extracting(JobApplication::getApplicationId).containsExactly("b");
+        assertThat(repository.findArchivedById("a")).isEmpty();
+    }
+
+    @Test
+    void rowUpdatedAfterTheReadStaysHot() {
+        List<JobApplication> batch = archivable();
+        repository.pushAdminNote("a", JobApplication.AdminNote.builder().note("Reconsider").addedBy("admin").build());
+
+        List<JobApplication> moved = repository.moveToArchive(batch);
+
+        assertThat(moved).extracting(JobApplication::getApplicationId).containsExactly("b");
+        assertThat(repository.findByApplicationId("a")).isPresent();
+        assertThat(repository.findArchivedById("a")).isEmpty();
+        assertThat(mongoTemplate.exists(new Query(Criteria.where("archiveClaim").exists(true)), JobApplication.class))
+                .isFalse();
+    }
+
+    @Test
+    void claimFromADeadRunExpires() {
+        mongoTemplate.updateFirst(new Query(Criteria.where("applicationId").is("a")),
+                new Update().set("archiveClaim", "dead-run").set("archiveClaimedAt", LocalDateTime.now().minusDays(1)),
+                JobApplication.class);
+
+        assertThat(repository.moveToArchive(archivable())).hasSize(2);
+    }
+
+    @Test
+    void liveClaimFromAnotherRunIsRespected() {
+        mongoTemplate.updateFirst(new Query(Criteria.where("applicationId").is("a")),
+                new Update().set("archiveClaim", "other-run").set("archiveClaimedAt", LocalDateTime.now()),
+                JobApplication.class);
+
+        List<JobApplication> moved = repository.moveToArchive(archivable());
+
+        assertThat(moved).extracting(JobApplication::getApplicationId).containsExactly("b");
+        assertThat(repository.findByApplicationId("a")).isPresent();
+    }
+
+    @Test
+    void onlyOldClosedApplicationsAreArchivable() {
+        JobApplication open = closedApplication("open");
+        open.setStatus("screening");
+        JobApplication recent = closedApplication("recent");
+        recent.setLastUpdated(LocalDateTime.now());
+        repository.saveAll(List.of(open, recent));
+
+        assertThat(archivable()).extracting(JobApplication::getApplicationId).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void archivedApplicationsCanStillBeTracked() {
+        repository.moveToArchive(archivable());
+
+        assertThat(repository.findTracking("a")).isEmpty();
+        assertThat(repository.findArchivedTracking("a").orElseThrow().getStatus()).isEqualTo("rejected");
+    }
+
+    private List<JobApplication> archivable() {
+        return repository.findArchivable(CLOSED, LocalDateTime.now().minusDays(30), 10);
+    }
+
+    private static JobApplication closedApplication(String id) {
+        return JobApplication.builder()
+                .applicationId(id)
+                .jobId("job-1")
+                .firstName("Test")
+                .lastName(id)
+                .email(id + "@example.com")
+                .status("rejected")
+                .lastUpdated(LocalDateTime.now().minusDays(400))
+                .build();
+    }
+}
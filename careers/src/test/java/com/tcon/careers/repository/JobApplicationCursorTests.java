@@ -0,0 +1,75 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.dto.ApplicationFilter;
+import com.tcon.careers.dto.ApplicationListItem;
+import com.tcon.careers.dto.PageCursor;
+import com.tcon.careers.dto.PendingReviewItem;
+import com.tcon.careers.model.JobApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keyset pages reach applications that have no application date.
+ */
+class JobApplicationCursorTests extends MongoIntegrationTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 9, 0);
+
+    private JobApplicationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = repository(JobApplicationRepository.class, new JobApplicationRepositoryCustomImpl(mongoTemplate));
+        repository.save(application("app-1", NOW.minusDays(2)));
+        repository.save(application("app-2", NOW.minusDays(1)));
+        repository.save(application("app-3", null));
+        repository.save(application("app-4", null));
+    }
+
+    @Test
+    void newestFirstPagesEndWithUndatedApplications() {
+        List<String> ids = new ArrayList<>();
+        PageCursor after = null;
+        List<ApplicationListItem> page;
+        while (!(page = repository.findApplicationsAfter(ApplicationFilter.builder().build(), after, 1)).isEmpty()) {
+            ApplicationListItem last = page.get(0);
+            ids.add(last.getApplicationId());
+            after = PageCursor.decode(new PageCursor(last.getApplicationDate(), last.getApplicationId()).encode());
+        }
+
+        assertThat(ids).containsExactly("app-2", "app-1", "app-4", "app-3");
+    }
+
+    @Test
+    void oldestFirstPagesStartWithUndatedApplications() {
+        List<String> ids = new ArrayList<>();
+        PageCursor after = null;
+        List<PendingReviewItem> page;
+        while (!(page = repository.findPendingReviewsAfter(after, 1)).isEmpty()) {
+            PendingReviewItem last = page.get(0);
+            ids.add(last.getApplicationId());
+            after = PageCursor.decode(new PageCursor(last.getApplicationDate(), last.getApplicationId()).encode());
+        }
+
+        assertThat(ids).containsExactly("app-3", "app-4", "app-1", "app-2");
+    }
+
+    private static JobApplication application(String id, LocalDateTime applicationDate) {
+        return JobApplication.builder()
+                .applicationId(id)
+                .jobId("job-1")
+                .firstName("Test")
+                .lastName(id)
+                .email(id + "@example.com")
+                .status("submitted")
+                .applicationDate(applicationDate)
+                .build();
+    }
+}
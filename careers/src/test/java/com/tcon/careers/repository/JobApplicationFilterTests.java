@@ -0,0 +1,103 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.dto.ApplicationFilter;
+import com.tcon.careers.dto.ApplicationListItem;
+import com.tcon.careers.model.JobApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every supplied admin filter narrows the same query instead of only the first one applying,
+ * and list rows carry just the table columns.
+ */
+class JobApplicationFilterTests extends MongoIntegrationTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 9, 0);
+
+    private JobApplicationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = repository(JobApplicationRepository.class, new JobApplicationRepositoryCustomImpl(mongoTemplate));
+        repository.save(application("app-1", "job-1", "Engineering", "screening", NOW.minusDays(10)));
+        repository.save(application("app-2", "job-1", "Engineering", "screening", NOW.minusDays(2)));
+        repository.save(application("app-3", "job-1", "Engineering", "submitted", NOW.minusDays(1)));
+        repository.save(application("app-4", "job-2", "Design", "screening", NOW));
+    }
+
+    @Test
+    void filtersCombineInsteadOfOnlyTheFirstOneApplying() {
+        ApplicationFilter filter = ApplicationFilter.builder()
+                .jobId("job-1")
+                .status("screening")
+                .dateFrom(NOW.minusDays(7))
+                .build();
+
+        assertThat(ids(filter)).containsExactly("app-2");
+        assertThat(repository.countApplications(filter)).isEqualTo(1L);
+    }
+
+    @Test
+    void eitherDateBoundCanBeGivenOnItsOwn() {
+        ApplicationFilter since = ApplicationFilter.builder().dateFrom(NOW.minusDays(1)).build();
+        ApplicationFilter until = ApplicationFilter.builder().dateTo(NOW.minusDays(2)).build();
+
+        assertThat(ids(since)).containsExactly("app-4", "app-3");
+        assertThat(ids(until)).containsExactly("app-2", "app-1");
+    }
+
+    @Test
+    void departmentAndStatusNarrowTheCount() {
+        assertThat(repository.countApplications(ApplicationFilter.builder().build())).isEqualTo(4L);
+        assertThat(repository.countApplications(ApplicationFilter.builder().status("screening").build())).isEqualTo(3L);
+        assertThat(repository.countApplications(ApplicationFilter.builder()
+                .department("Engineering")
+                .status("screening")
+                .build())).isEqualTo(2L);
+    }
+
+    @Test
+    void listRowsCarryTheTableColumns() {
+        ApplicationListItem row = page(ApplicationFilter.builder().jobId("job-2").build()).get(0);
+
+        assertThat(row.getApplicationId()).isEqualTo("app-4");
+        assertThat(row.getJobTitle()).isEqualTo("Design Lead");
+        assertThat(row.getDepartment()).isEqualTo("Design");
+        assertThat(row.getEmail()).isEqualTo("app-4@example.com");
+        assertThat(row.getStatus()).isEqualTo("screening");
+        assertThat(row.getApplicationDate()).isEqualTo(NOW);
+    }
+
+    private List<String> ids(ApplicationFilter filter) {
+        return page(filter).stream().map(ApplicationListItem::getApplicationId).toList();
+    }
+
+    private List<ApplicationListItem> page(ApplicationFilter filter) {
+        return repository.findApplications(filter, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "applicationDate")))
+                .getContent();
+    }
+
+    private static JobApplication application(String id, String jobId, String department, String status,
+                                              LocalDateTime applicationDate) {
+        return JobApplication.builder()
+                .applicationId(id)
+                .jobId(jobId)
+                .jobTitle(department + " Lead")
+                .department(department)
+                .firstName("Test")
+                .lastName(id)
+                .email(id + "@example.com")
+                .status(status)
+                .applicationDate(applicationDate)
+                .coverLetter("A long cover letter")
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.dto.PendingReviewItem;
+import com.tcon.careers.model.JobApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The pending-review queue holds only undecided applications, oldest first, whether paged or streamed.
+ */
+class JobApplicationPendingReviewTests extends MongoIntegrationTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 9, 0);
+
+    private JobApplicationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = repository(JobApplicationRepository.class, new JobApplicationRepositoryCustomImpl(mongoTemplate));
+        repository.save(application("app-1", "screening", NOW.minusDays(3)));
+        repository.save(application("app-2", "rejected", NOW.minusDays(2)));
+        repository.save(application("app-3", "submitted", NOW.minusDays(1)));
+        repository.save(application("app-4", "hired", NOW));
+    }
+
+    @Test
+    void pagesAndCountSkipDecidedApplications() {
+        List<PendingReviewItem> page = repository.findPendingReviewsAfter(null, 10);
+
+        assertThat(page).extracting(PendingReviewItem::getApplicationId).containsExactly("app-1", "app-3");
+        assertThat(page).extracting(PendingReviewItem::getStatus).containsExactly("screening", "submitted");
+        assertThat(repository.countPendingReviews()).isEqualTo(2L);
+    }
+
+    @Test
+    void streamReturnsTheWholeQueueInPageOrder() {
+        try (Stream<PendingReviewItem> stream = repository.streamPendingReviews()) {
+            assertThat(stream.map(PendingReviewItem::getApplicationId)).containsExactly("app-1", "app-3");
+        }
+    }
+
+    private static JobApplication application(String id, String status, LocalDateTime applicationDate) {
+        return JobApplication.builder()
+                .applicationId(id)
+                .jobId("job-1")
+                .jobTitle("Backend Developer")
+                .firstName("Test")
+                .lastName(id)
+                .email(id + "@example.com")
+                .status(status)
+                .applicationDate(applicationDate)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.dto.ApplicationFilter;
+import com.tcon.careers.model.JobApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobApplicationStreamTests {
+
+    @Test
+    void archiveCursorOpensOnlyOnceTheHotRowsAreRead() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        AtomicBoolean archiveClosed = new AtomicBoolean();
+        when(mongoTemplate.stream(any(Query.class), eq(JobApplication.class)))
+                .thenReturn(Stream.of(application("hot")));
+        when(mongoTemplate.stream(any(Query.class), eq(JobApplication.class), eq(JobApplication.ARCHIVE_COLLECTION)))
+                .thenReturn(Stream.of(application("archived")).onClose(() -> archiveClosed.set(true)));
+        ApplicationFilter filter = ApplicationFilter.builder().includeArchived(true).build();
+
+        try (Stream<JobApplication> applications =
+                     new JobApplicationRepositoryCustomImpl(mongoTemplate).streamApplications(filter)) {
+            verify(mongoTemplate, never()).stream(any(Query.class), eq(JobApplication.class),
+                    eq(JobApplication.ARCHIVE_COLLECTION));
+
+            List<String> ids = applications.map(JobApplication::getApplicationId).toList();
+
+            assertThat(ids).containsExactly("hot", "archived");
+            assertThat(archiveClosed).isTrue();
+        }
+    }
+
+    private static JobApplication application(String id) {
+        return JobApplication.builder().applicationId(id).build();
+    }
+}
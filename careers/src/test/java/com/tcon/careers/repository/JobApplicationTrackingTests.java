@@ -0,0 +1,56 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.dto.ApplicationTracking;
+import com.tcon.careers.model.JobApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Public tracking reads only the six fields it shows.
+ */
+class JobApplicationTrackingTests extends MongoIntegrationTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 9, 0);
+
+    private JobApplicationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = repository(JobApplicationRepository.class, new JobApplicationRepositoryCustomImpl(mongoTemplate));
+        repository.save(JobApplication.builder()
+                .applicationId("app-1")
+                .jobId("job-1")
+                .jobTitle("Backend Developer")
+                .department("Engineering")
+                .firstName("Test")
+                .lastName("Applicant")
+                .email("app-1@example.com")
+                .coverLetter("A long cover letter")
+                .status("screening")
+                .applicationDate(NOW.minusDays(1))
+                .lastUpdated(NOW)
+                .build());
+    }
+
+    @Test
+    void trackingCarriesTheStatusFields() {
+        ApplicationTracking tracking = repository.findTracking("app-1").orElseThrow();
+
+        assertThat(tracking.getApplicationId()).isEqualTo("app-1");
+        assertThat(tracking.getJobTitle()).isEqualTo("Backend Developer");
+        assertThat(tracking.getDepartment()).isEqualTo("Engineering");
+        assertThat(tracking.getStatus()).isEqualTo("screening");
+        assertThat(tracking.getApplicationDate()).isEqualTo(NOW.minusDays(1));
+        assertThat(tracking.getLastUpdated()).isEqualTo(NOW);
+    }
+
+    @Test
+    void unknownApplicationHasNoTracking() {
+        assertThat(repository.findTracking("missing")).isEmpty();
+    }
+}
@@ -0,0 +1,99 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.model.JobApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Single-document writes: what they stamp and what they hand back.
+ */
+class JobApplicationUpdateTests extends MongoIntegrationTest {
+
+    private JobApplicationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = repository(JobApplicationRepository.class, new JobApplicationRepositoryCustomImpl(mongoTemplate));
+        JobApplication application = JobApplication.builder()
+                .applicationId("app-1")
+                .jobId("job-1")
+                .jobTitle("Backend Developer")
+                .firstName("Test")
+                .lastName("Applicant")
+                .email("app-1@example.com")
+                .coverLetter("A long cover letter")
+                .build();
+        application.getStatusHistory().add(JobApplication.StatusHistory.builder().status("submitted").build());
+        repository.save(application);
+        repository.pushAdminNote("app-1", note("First"));
+    }
+
+    @Test
+    void statusChangeReturnsThePreviousStatusView() {
+        JobApplication previous = repository.applyStatusChange("app-1",
+                JobApplication.StatusHistory.builder().status("screening").build(), null).orElseThrow();
+
+        assertThat(previous.getStatus()).isEqualTo("submitted");
+        assertThat(previous.getEmail()).isEqualTo("app-1@example.com");
+        assertThat(previous.getJobTitle()).isEqualTo("Backend Developer");
+        assertThat(previous.getCoverLetter()).isNull();
+        assertThat(previous.getStatusHistory()).isNullOrEmpty();
+        assertThat(previous.getAdminNotes()).isNullOrEmpty();
+
+        JobApplication stored = repository.findByApplicationId("app-1").orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo("screening");
+        assertThat(stored.getStatusHistory()).hasSize(2);
+        assertThat(stored.getVersion()).isEqualTo(previous.getVersion() + 1);
+    }
+
+    @Test
+    void statusChangeOfAMissingApplicationFindsNothing() {
+        assertThat(repository.applyStatusChange("missing",
+                JobApplication.StatusHistory.builder().status("screening").build(), null)).isEmpty();
+        assertThat(repository.findByApplicationId("missing")).isEmpty();
+    }
+
+    @Test
+    void addingANoteReturnsOnlyThatNote() {
+        JobApplication updated = repository.pushAdminNote("app-1", note("Second")).orElseThrow();
+
+        assertThat(updated.getAdminNotes()).extracting(JobApplication.AdminNote::getNote).containsExactly("Second");
+        assertThat(updated.getCoverLetter()).isNull();
+        assertThat(updated.getStatusHistory()).isNullOrEmpty();
+        assertThat(repository.findByApplicationId("app-1").orElseThrow().getAdminNotes()).hasSize(2);
+    }
+
+    @Test
+    void insertStampsLastUpdatedOnTheDatabaseClock() {
+        JobApplication application = JobApplication.builder()
+                .applicationId("app-2")
+                .jobId("job-1")
+                .firstName("Test")
+                .lastName("Applicant")
+                .email("app-2@example.com")
+                .lastUpdated(LocalDateTime.now().plusHours(1))
+                .build();
+        application.getStatusHistory().add(JobApplication.StatusHistory.builder().status("submitted").build());
+
+        JobApplication inserted = repository.insertWithServerTimestamp(application);
+
+        JobApplication stored = repository.findByApplicationId("app-2").orElseThrow();
+        assertThat(stored.getLastUpdated()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.MINUTES));
+        assertThat(inserted.getLastUpdated()).isEqualTo(stored.getLastUpdated());
+        assertThat(stored.getVersion()).isZero();
+        assertThat(stored.getEmail()).isEqualTo("app-2@example.com");
+        assertThat(stored.getStatusHistory()).extracting(JobApplication.StatusHistory::getStatus)
+                .containsExactly("submitted");
+    }
+
+    private static JobApplication.AdminNote note(String text) {
+        return JobApplication.AdminNote.builder().note(text).addedBy("admin").build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.tcon.careers.repository;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.model.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Job statistics come from one $facet aggregation over the jobs collection.
+ */
+class JobRepositoryStatsTests extends MongoIntegrationTest {
+
+    private JobRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = repository(JobRepository.class, new JobRepositoryCustomImpl(mongoTemplate));
+    }
+
+    @Test
+    void countsEveryBreakdownInOneAggregation() {
+        repository.saveAll(List.of(
+                job("Backend Developer", "Engineering", "Remote", "Full-time", true),
+                job("Data Engineer", "Engineering", "Onsite", "Contract", false),
+                job("Product Designer", "Design", "Remote", "Full-time", true)
+        ));
+
+        Map<String, Object> stats = repository.aggregateJobStats();
+
+        assertThat(stats).containsEntry("totalJobs", 3L).containsEntry("totalActiveJobs", 2L);
+        assertThat(stats.get("byDepartment")).isEqualTo(Map.of("Engineering", 2L, "Design", 1L));
+        assertThat(stats.get("byLocation")).isEqualTo(Map.of("Remote", 2L, "Onsite", 1L));
+        assertThat(stats.get("byType")).isEqualTo(Map.of("Full-time", 2L, "Contract", 1L));
+    }
+
+    @Test
+    void emptyCollectionReportsZeroes() {
+        Map<String, Object> stats = repository.aggregateJobStats();
+
+        assertThat(stats).containsEntry("totalJobs", 0L).containsEntry("totalActiveJobs", 0L);
+        assertThat(stats.get("byDepartment")).isEqualTo(Map.of());
+    }
+
+    private static Job job(String title, String department, String location, String type, boolean active) {
+        return Job.builder()
+                .title(title)
+                .department(department)
+                .location(location)
+                .type(type)
+                .isActive(active)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.tcon.careers.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicantSearchTokensTests {
+
+    @Test
+    void indexesPrefixesOfNamesAndEmailParts() {
+        List<String> tokens = ApplicantSearchTokens.forApplicant("Mary Jane", "O'Neil-Smith", "Jo.Doe+cv@Example.io");
+
+        assertThat(tokens)
+                .contains("m", "mary", "mary j", "mary jane", "j", "jane")
+                .contains("o'neil-smith", "neil", "smith")
+                .contains("jo.doe+cv@example.io", "jo", "doe", "cv", "example", "io")
+                .doesNotHaveDuplicates()
+                .allMatch(token -> token.equals(token.toLowerCase()));
+    }
+
+    @Test
+    void capsPrefixLength() {
+        String longName = "abcdefghijklmnopqrstuvwxyz";
+
+        List<String> tokens = ApplicantSearchTokens.forApplicant(longName, null, null);
+
+        assertThat(tokens)
+                .hasSize(ApplicantSearchTokens.MAX_PREFIX_LENGTH)
+                .contains(longName.substring(0, ApplicantSearchTokens.MAX_PREFIX_LENGTH));
+    }
+
+    @Test
+    void queryTermsAreNormalizedToStoredTokens() {
+        assertThat(ApplicantSearchTokens.forQuery("  Jane   DOE ")).containsExactly("jane", "doe");
+        assertThat(ApplicantSearchTokens.forQuery("abcdefghijklmnopqrstuvwxyz"))
+                .containsExactly("abcdefghijklmnopqrst");
+        assertThat(ApplicantSearchTokens.forQuery(null)).isEmpty();
+        assertThat(ApplicantSearchTokens.forQuery("   ")).isEmpty();
+    }
+
+    @Test
+    void everyQueryTermOfAMatchingSearchIsAStoredToken() {
+        List<String> tokens = ApplicantSearchTokens.forApplicant("Jane", "Doe", "jane.doe@example.com");
+
+        assertThat(tokens).containsAll(ApplicantSearchTokens.forQuery("Ja DOE example"));
+        assertThat(tokens).doesNotContain("oe");
+    }
+}
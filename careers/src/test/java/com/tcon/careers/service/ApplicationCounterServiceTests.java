@@ -0,0 +1,212 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.model.ApplicationCounters;
+import com.tcon.careers.model.Job;
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.ApplicationCountersRepository;
+import com.tcon.careers.repository.ApplicationCountersRepositoryCustomImpl;
+import com.tcon.careers.repository.JobApplicationRepository;
+import com.tcon.careers.repository.JobApplicationRepositoryCustomImpl;
+import com.tcon.careers.repository.JobRepository;
+import com.tcon.careers.repository.JobRepositoryCustomImpl;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Counters kept by $inc updates, and reconciliation against counter updates that
+ * land while it is counting and against applications moved to the archive.
+ */
+class ApplicationCounterServiceTests extends MongoIntegrationTest {
+
+    private JobApplicationRepository applications;
+    private JobRepository jobs;
+    private String jobId;
+
+    @BeforeEach
+    void setUp() {
+        applications = repository(JobApplicationRepository.class, new JobApplicationRepositoryCustomImpl(mongoTemplate));
+        jobs = repository(JobRepository.class, new JobRepositoryCustomImpl(mongoTemplate));
+        jobId = jobs.save(Job.builder().title("Backend Developer").department("Engineering").build()).getId();
+    }
+
+    @Test
+    void countersFollowSubmissionsStatusChangesAndDeletes() {
+        ApplicationCounterService service = service(countersRepository(mongoTemplate));
+        service.reconcile();
+        JobApplication first = application("app-1");
+        JobApplication second = application("app-2");
+
+        service.recordSubmission(first);
+        service.recordSubmission(second);
+        service.recordStatusChange("app-1", jobId, "pending", "reviewed");
+        service.recordDeletion(second);
+
+        ApplicationCounters counters = service.getCounters();
+        assertThat(counters.getTotal()).isEqualTo(1L);
+        assertThat(counters.getByStatus()).containsEntry("pending", 0L).containsEntry("reviewed", 1L);
+        assertThat(counters.getByDepartment()).containsEntry("Engineering", 1L);
+        Job job = jobs.findById(jobId).orElseThrow();
+        assertThat(job.getApplicationCount()).isEqualTo(1L);
+        assertThat(job.getApplicationsByStatus()).containsEntry("reviewed", 1L);
+    }
+
+    @Test
+    void firstReadSeedsTheCountersFromTheApplications() {
+        ApplicationCounterService service = service(countersRepository(mongoTemplate));
+        applications.save(application("app-1"));
+        applications.save(application("app-2"));
+
+        ApplicationCounters counters = service.getCounters();
+
+        assertThat(counters.getTotal()).isEqualTo(2L);
+        assertThat(counters.getReconciledAt()).isNotNull();
+        assertThat(dashboard().getByStatus()).containsEntry("pending", 2L);
+    }
+
+    @Test
+    void reconcileReplacesDriftedCounters() {
+        ApplicationCounterService service = service(countersRepository(mongoTemplate));
+        applications.save(application("app-1"));
+        service.recordSubmission(application("never-stored"));
+
+        ApplicationCounters counters = service.reconcile();
+
+        assertThat(counters.getTotal()).isEqualTo(1L);
+        assertThat(dashboard().getByStatus()).containsEntry("pending", 1L);
+        Job job = jobs.findById(jobId).orElseThrow();
+        assertThat(job.getApplicationCount()).isEqualTo(1L);
+        assertThat(job.getApplicationsByStatus()).isEqualTo(Map.of("pending", 1L));
+    }
+
+    @Test
+    void submissionDuringTheDashboardCountIsNotLost() {
+        applications.save(application("app-1"));
+        MongoTemplate template = spy(mongoTemplate);
+        ApplicationCountersRepository counters = countersRepository(template);
+        ApplicationCounterService service = service(counters);
+
+        AtomicBoolean submitted = new AtomicBoolean();
+        doAnswer(invocation -> {
+            Object counted = invocation.callRealMethod();
+            if (submitted.compareAndSet(false, true)) {
+                submit(service, "app-2");
+            }
+            return counted;
+        }).when(template).aggregate(any(Aggregation.class), eq(JobApplication.class), eq(Document.class));
+
+        service.reconcile();
+
+        assertThat(dashboard().getTotal()).isEqualTo(2L);
+    }
+
+    @Test
+    void submissionDuringTheJobCountIsNotLost() {
+        applications.save(application("app-1"));
+        ApplicationCountersRepository counters = mock(ApplicationCountersRepository.class,
+                delegatesTo(countersRepository(mongoTemplate)));
+        ApplicationCounterService service = service(counters);
+
+        AtomicBoolean submitted = new AtomicBoolean();
+        doAnswer(invocation -> {
+            Object counted = countersRepository(mongoTemplate).countApplicationsByJobAndStatus(invocation.getArgument(0));
+            if (submitted.compareAndSet(false, true)) {
+                submit(service, "app-2");
+            }
+            return counted;
+        }).when(counters).countApplicationsByJobAndStatus(anyCollection());
+
+        service.reconcile();
+
+        assertThat(jobs.findById(jobId).orElseThrow().getApplicationCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void reconcileKeepsArchivedApplicationsCounted() {
+        ApplicationCounterService service = service(countersRepository(mongoTemplate));
+        applications.save(application("app-1"));
+        JobApplication closed = application("app-2");
+        closed.setStatus("rejected");
+        applications.save(closed);
+        applications.moveToArchive(List.of(closed));
+
+        ApplicationCounters counters = service.reconcile();
+
+        assertThat(counters.getTotal()).isEqualTo(2L);
+        assertThat(counters.getByStatus()).containsEntry("pending", 1L).containsEntry("rejected", 1L);
+        Job job = jobs.findById(jobId).orElseThrow();
+        assertThat(job.getApplicationCount()).isEqualTo(2L);
+        assertThat(job.getApplicationsByStatus()).isEqualTo(Map.of("pending", 1L, "rejected", 1L));
+    }
+
+    @Test
+    void rowCaughtMidArchiveIsCountedOnce() {
+        ApplicationCounterService service = service(countersRepository(mongoTemplate));
+        JobApplication closed = application("app-1");
+        closed.setStatus("rejected");
+        applications.save(closed);
+        // A move that copied the row but has not yet removed the claimed hot original
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is("app-1")),
+                Update.update("archiveClaim", "run-1"), JobApplication.class);
+        mongoTemplate.insert(closed, JobApplication.ARCHIVE_COLLECTION);
+
+        service.reconcile();
+
+        assertThat(dashboard().getTotal()).isEqualTo(1L);
+        assertThat(jobs.findById(jobId).orElseThrow().getApplicationCount()).isEqualTo(1L);
+    }
+
+    private void submit(ApplicationCounterService service, String applicationId) {
+        JobApplication application = applications.save(application(applicationId));
+        service.recordSubmission(application);
+    }
+
+    private ApplicationCounters dashboard() {
+        return mongoTemplate.findById(ApplicationCounters.DASHBOARD_ID, ApplicationCounters.class);
+    }
+
+    private ApplicationCounterService service(ApplicationCountersRepository counters) {
+        OptimisticRetryExecutor retryExecutor = new OptimisticRetryExecutor();
+        ReflectionTestUtils.setField(retryExecutor, "maxAttempts", 4);
+        ReflectionTestUtils.setField(retryExecutor, "backoffMs", 1L);
+        return new ApplicationCounterService(counters, jobs, retryExecutor);
+    }
+
+    private static ApplicationCountersRepository countersRepository(MongoTemplate template) {
+        return new MongoRepositoryFactory(template)
+                .getRepository(ApplicationCountersRepository.class, new ApplicationCountersRepositoryCustomImpl(template));
+    }
+
+    private JobApplication application(String id) {
+        return JobApplication.builder()
+                .applicationId(id)
+                .jobId(jobId)
+                .department("Engineering")
+                .firstName("Test")
+                .lastName(id)
+                .email(id + "@example.com")
+                .status("pending")
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.dto.ApplicationEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApplicationEventBroadcasterTests {
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final CountDownLatch unblock = new CountDownLatch(1);
+
+    private ApplicationEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new ApplicationEventBroadcaster() {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                RecordingEmitter emitter = new RecordingEmitter(emitters.isEmpty() ? unblock : null);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(broadcaster, "maxSubscribers", 5);
+        ReflectionTestUtils.setField(broadcaster, "emitterTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(broadcaster, "subscriberQueueCapacity", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void subscribersOverTheCapAreRejected() {
+        ReflectionTestUtils.setField(broadcaster, "maxSubscribers", 2);
+        assertThat(broadcaster.subscribe()).isNotNull();
+        assertThat(broadcaster.subscribe()).isNotNull();
+
+        assertThatThrownBy(() -> broadcaster.subscribe()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void concurrentSubscribersNeverExceedTheCap() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            attempts.add(() -> {
+                start.await();
+                try {
+                    broadcaster.subscribe();
+                    return true;
+                } catch (IllegalStateException e) {
+                    return false;
+                }
+            });
+        }
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            attempts.forEach(attempt -> results.add(callers.submit(attempt)));
+            start.countDown();
+
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                accepted += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertThat(accepted).isEqualTo(5);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void completedSubscriberFreesItsSlot() {
+        ReflectionTestUtils.setField(broadcaster, "maxSubscribers", 1);
+        broadcaster.subscribe();
+        assertThatThrownBy(() -> broadcaster.subscribe()).isInstanceOf(IllegalStateException.class);
+
+        emitters.get(0).disconnect();
+
+        assertThat(broadcaster.subscribe()).isNotNull();
+    }
+
+    @Test
+    void slowSubscriberIsDroppedWithoutHoldingBackTheOthers() throws Exception {
+        broadcaster.subscribe();
+        broadcaster.subscribe();
+        RecordingEmitter slow = emitters.get(0);
+        RecordingEmitter fast = emitters.get(1);
+
+        for (int i = 1; i <= 10; i++) {
+            broadcaster.publish(event());
+            fast.awaitSends(i);
+        }
+
+        assertThat(fast.sends.get()).isEqualTo(10);
+        assertThat(slow.completed.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // Its slot went with it
+        for (int i = 0; i < 4; i++) {
+            broadcaster.subscribe();
+        }
+    }
+
+    private static ApplicationEvent event() {
+        return ApplicationEvent.builder().type(ApplicationEvent.STATUS_CHANGED).applicationId("app-1").build();
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch blockUntil;
+        private final AtomicInteger sends = new AtomicInteger();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private Runnable completionCallback;
+
+        private RecordingEmitter(CountDownLatch blockUntil) {
+            super(60_000L);
+            this.blockUntil = blockUntil;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (blockUntil != null) {
+                try {
+                    blockUntil.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted", e);
+                }
+            }
+            sends.incrementAndGet();
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completionCallback = callback;
+        }
+
+        // What the container reports when the client goes away
+        private void disconnect() {
+            completionCallback.run();
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+
+        private void awaitSends(int expected) throws InterruptedException {
+            for (int i = 0; i < 200 && sends.get() < expected; i++) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.dto.DeltaExportWindow;
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.ExportWatermarkRepository;
+import com.tcon.careers.repository.ExportWatermarkRepositoryCustomImpl;
+import com.tcon.careers.repository.JobApplicationRepository;
+import com.tcon.careers.repository.JobApplicationRepositoryCustomImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeltaExportServiceTests extends MongoIntegrationTest {
+
+    private static final String CONSUMER = "hris";
+
+    private JobApplicationRepository applications;
+    private ExportWatermarkRepository watermarks;
+    private DeltaExportService deltaExportService;
+
+    @BeforeEach
+    void setUp() {
+        applications = repository(JobApplicationRepository.class, new JobApplicationRepositoryCustomImpl(mongoTemplate));
+        watermarks = repository(ExportWatermarkRepository.class, new ExportWatermarkRepositoryCustomImpl(mongoTemplate));
+        deltaExportService = new DeltaExportService(new ExportService(applications), watermarks, applications);
+        ReflectionTestUtils.setField(deltaExportService, "skewLagMs", 0L);
+
+        applications.save(application("app-1", LocalDateTime.now().minusMinutes(5)));
+    }
+
+    @Test
+    void exportingDoesNotMoveTheWatermark() throws IOException {
+        DeltaExportWindow window = deltaExportService.resolveWindow(CONSUMER, null);
+
+        assertThat(export(window)).contains("\"app-1\"");
+        assertThat(watermarks.findById(CONSUMER)).isEmpty();
+
+        // A delta that never reached the consumer is simply exported again
+        assertThat(export(deltaExportService.resolveWindow(CONSUMER, null))).contains("\"app-1\"");
+    }
+
+    @Test
+    void nextDeltaStartsAtTheAcknowledgedWatermark() throws IOException {
+        DeltaExportWindow first = deltaExportService.resolveWindow(CONSUMER, null);
+        export(first);
+        deltaExportService.acknowledge(CONSUMER, first.getUntil());
+
+        applications.save(application("app-2", LocalDateTime.now().minusMinutes(10)));
+        applications.pushAdminNote("app-2", JobApplication.AdminNote.builder().note("Follow up").addedBy("admin").build());
+
+        DeltaExportWindow second = deltaExportService.resolveWindow(CONSUMER, null);
+        assertThat(second.getSince()).isEqualTo(first.getUntil());
+        assertThat(export(second))
+                .contains("\"app-2\"")
+                .doesNotContain("\"app-1\"");
+    }
+
+    @Test
+    void acknowledgementsNeverMoveTheWatermarkBackwards() {
+        LocalDateTime newer = deltaExportService.resolveWindow(CONSUMER, null).getUntil();
+        LocalDateTime older = newer.minusHours(1);
+
+        deltaExportService.acknowledge(CONSUMER, newer);
+        deltaExportService.acknowledge(CONSUMER, older);
+
+        assertThat(watermarks.findById(CONSUMER).orElseThrow().getWatermark()).isEqualTo(newer);
+    }
+
+    @Test
+    void rejectsAWatermarkNoDeltaCouldHaveReturned() {
+        assertThatThrownBy(() -> deltaExportService.acknowledge(CONSUMER, LocalDateTime.now().plusHours(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(watermarks.findById(CONSUMER)).isEmpty();
+    }
+
+    private String export(DeltaExportWindow window) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        deltaExportService.write(window, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static JobApplication application(String id, LocalDateTime lastUpdated) {
+        return JobApplication.builder()
+                .applicationId(id)
+                .jobId("job-1")
+                .firstName("Test")
+                .lastName("Applicant")
+                .email(id + "@example.com")
+                .lastUpdated(lastUpdated)
+                .build();
+    }
+}
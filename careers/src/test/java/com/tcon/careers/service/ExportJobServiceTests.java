@@ -0,0 +1,172 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.dto.ApplicationFilter;
+import com.tcon.careers.dto.ExportJobRequest;
+import com.tcon.careers.dto.ExportJobStatus;
+import com.tcon.careers.repository.JobApplicationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ExportJobServiceTests {
+
+    @TempDir
+    Path directory;
+
+    private ExportService exportService;
+    private ExportJobService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        exportService = mock(ExportService.class);
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(exportService).writeCsv(any(), any(), any());
+        service = new ExportJobService(exportService, mock(JobApplicationRepository.class), 1, 4, directory.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void expiryWaitsForDownloadsInProgress() throws Exception {
+        String id = completedJob();
+        Path file = directory.resolve(id + ".csv");
+
+        try (InputStream download = service.openFile(id).orElseThrow()) {
+            expireAll();
+
+            assertThat(file).exists();
+            assertThat(service.getStatus(id)).isEmpty();
+            assertThat(new String(download.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("id\n1\n");
+        }
+
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void expiryDeletesFilesNobodyIsDownloading() throws Exception {
+        String id = completedJob();
+        service.openFile(id).orElseThrow().close();
+
+        expireAll();
+
+        assertThat(directory.resolve(id + ".csv")).doesNotExist();
+    }
+
+    @Test
+    void removesPartialFilesLeftByAnEarlierRun() throws Exception {
+        Path partial = Files.writeString(directory.resolve("killed.csv.part"), "id\n");
+        Path finished = Files.writeString(directory.resolve("done.csv"), "id\n");
+
+        service.removeLeftoverPartials();
+
+        assertThat(partial).doesNotExist();
+        assertThat(finished).exists();
+    }
+
+    @Test
+    void everyJobIdHandedOutCanBeLookedUp() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> ids = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                ids.add(callers.submit(() -> {
+                    String id = service.submit(ExportJobRequest.builder().format("csv").build()).getId();
+                    assertThat(service.getStatus(id)).isPresent();
+                    return id;
+                }));
+            }
+            for (Future<String> id : ids) {
+                assertThat(id.get(10, TimeUnit.SECONDS)).isNotNull();
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void identicalRequestsWhileRunningShareOneJob() throws Exception {
+        CountDownLatch release = blockExports();
+        try {
+            String first = service.submit(request("csv", "job-1")).getId();
+            String again = service.submit(request("csv", "job-1")).getId();
+            String otherFilter = service.submit(request("csv", "job-2")).getId();
+
+            assertThat(again).isEqualTo(first);
+            assertThat(otherFilter).isNotEqualTo(first);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void fullQueueIsRejected() throws Exception {
+        CountDownLatch release = blockExports();
+        try {
+            // One running and four queued fill the pool
+            for (int i = 1; i <= 5; i++) {
+                service.submit(request("csv", "job-" + i));
+            }
+
+            assertThatThrownBy(() -> service.submit(request("csv", "job-6")))
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private CountDownLatch blockExports() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return 0L;
+        }).when(exportService).writeCsv(any(), any(), any());
+        return release;
+    }
+
+    private String completedJob() throws InterruptedException {
+        String id = service.submit(ExportJobRequest.builder().format("csv").build()).getId();
+        for (int i = 0; i < 200 && !ExportJobStatus.COMPLETED.equals(service.getStatus(id).orElseThrow().getStatus()); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(service.getStatus(id).orElseThrow().getStatus()).isEqualTo(ExportJobStatus.COMPLETED);
+        return id;
+    }
+
+    private void expireAll() {
+        ReflectionTestUtils.setField(service, "retentionMs", -1_000L);
+        service.removeExpiredJobs();
+    }
+
+    private static ExportJobRequest request(String format, String jobId) {
+        return ExportJobRequest.builder()
+                .format(format)
+                .filter(ApplicationFilter.builder().jobId(jobId).build())
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.dto.ApplicationFilter;
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.JobApplicationRepository;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExportServiceTests {
+
+    @Test
+    void toRowFollowsTheHeaderOrder() {
+        JobApplication application = JobApplication.builder()
+                .applicationId("app-1")
+                .jobTitle("Backend Developer")
+                .department("Engineering")
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .email("ada@example.com")
+                .phone("555-0100")
+                .currentLocation("London")
+                .yearsOfExperience(7)
+                .currentRole("Engineer")
+                .currentCompany("Analytical Engines")
+                .noticePeriod("30 days")
+                .expectedSalary("120000")
+                .education("BSc Mathematics")
+                .status("pending")
+                .applicationDate(LocalDateTime.of(2024, 3, 1, 9, 30, 5))
+                .linkedinUrl("https://linkedin.com/in/ada")
+                .build();
+
+        String[] row = ExportService.toRow(application);
+
+        assertThat(row).hasSameSizeAs(ExportService.HEADERS).hasSameSizeAs(ExportService.FIELDS);
+        assertThat(row).containsExactly("app-1", "Backend Developer", "Engineering", "Ada", "Lovelace",
+                "ada@example.com", "555-0100", "London", "7", "Engineer", "Analytical Engines", "30 days",
+                "120000", "BSc Mathematics", "pending", "2024-03-01 09:30:05", "https://linkedin.com/in/ada", "", "");
+    }
+
+    @Test
+    void toRowLeavesMissingOptionalFieldsEmpty() {
+        String[] row = ExportService.toRow(JobApplication.builder().applicationId("app-1").applicationDate(null).build());
+
+        assertThat(row[10]).isEmpty();
+        assertThat(row[12]).isEmpty();
+        assertThat(row[15]).isEmpty();
+        assertThat(row[16]).isEmpty();
+    }
+
+    @Test
+    void writeCsvStreamsEveryRowAndClosesTheCursor() throws IOException {
+        JobApplicationRepository repository = mock(JobApplicationRepository.class);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(repository.streamApplications(any(ApplicationFilter.class), any(String[].class)))
+                .thenReturn(Stream.of(application("app-1"), application("app-2")).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = new ExportService(repository).writeCsv(ApplicationFilter.builder().build(), out);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8).lines())
+                .hasSize(3)
+                .first().asString().startsWith("\"Application ID\"");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void writeExcelStreamsEveryRowWithFixedColumnWidths() throws IOException {
+        JobApplicationRepository repository = mock(JobApplicationRepository.class);
+        AtomicBoolean closed = new AtomicBoolean();
+        JobApplication experienced = application("app-2");
+        experienced.setYearsOfExperience(7);
+        when(repository.streamApplications(any(ApplicationFilter.class), any(String[].class)))
+                .thenReturn(Stream.of(application("app-1"), experienced, application("app-3"))
+                        .onClose(() -> closed.set(true)));
+        ExportService service = new ExportService(repository);
+        // Smaller than the row count, so earlier rows are flushed to the temp file
+        ReflectionTestUtils.setField(service, "rowWindow", 2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service.writeExcel(ApplicationFilter.builder().build(), out);
+
+        assertThat(rows).isEqualTo(3);
+        assertThat(closed).isTrue();
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertThat(sheet.getLastRowNum()).isEqualTo(3);
+            assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("Application ID");
+            Row second = sheet.getRow(2);
+            assertThat(second.getCell(0).getStringCellValue()).isEqualTo("app-2");
+            assertThat(second.getCell(8).getNumericCellValue()).isEqualTo(7.0);
+            assertThat(sheet.getColumnWidth(0)).isEqualTo(38 * 256);
+        }
+    }
+
+    private static JobApplication application(String id) {
+        return JobApplication.builder().applicationId(id).firstName("Test").lastName(id).build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.dto.BulkStatusUpdateRequest;
+import com.tcon.careers.dto.BulkStatusUpdateResponse;
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.JobApplicationRepository;
+import com.tcon.careers.repository.JobApplicationRepositoryCustomImpl;
+import com.tcon.careers.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * How bulkUpdateStatus classifies rows when other writers race the bulk write.
+ */
+class JobApplicationServiceBulkStatusTests extends MongoIntegrationTest {
+
+    private JobApplicationRepository repository;
+    private JobApplicationRepository applications;
+    private ApplicationCounterService counterService;
+    private EmailService emailService;
+    private JobApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = repository(JobApplicationRepository.class, new JobApplicationRepositoryCustomImpl(mongoTemplate));
+        applications = mock(JobApplicationRepository.class, delegatesTo(repository));
+        counterService = mock(ApplicationCounterService.class);
+        emailService = mock(EmailService.class);
+
+        service = new JobApplicationService(applications, mock(JobRepository.class), mock(FileStorageService.class),
+                emailService, mock(RateLimitService.class), counterService, mock(ApplicationEventBroadcaster.class),
+                JsonMapper.builder().build(), mock(ApplicationCache.class),
+                mock(ApplicationArchiveService.class));
+
+        repository.saveAll(List.of(application("early-note"), application("late-note"), application("quiet")));
+    }
+
+    @Test
+    void appliesEveryRowWhenNothingInterferes() {
+        BulkStatusUpdateResponse response = service.bulkUpdateStatus(request("early-note", "late-note", "quiet"));
+
+        assertThat(response.getUpdated()).isEqualTo(3);
+        assertThat(response.getFailed()).isEmpty();
+        verify(counterService).recordStatusChanges(argThat(previous -> ids(previous)
+                .equals(List.of("early-note", "late-note", "quiet"))), eq("rejected"));
+        verify(counterService, never()).recordStatusChange(anyString(), any(), any(), any());
+        for (String id : List.of("early-note", "late-note", "quiet")) {
+            assertSingleRejection(id);
+        }
+    }
+
+    @Test
+    void classifiesRowsByTheirHistoryEntryNotByVersion() {
+        doAnswer(invocation -> {
+            // Lands between the pre-read and the bulk write: the conditional update skips this row,
+            // yet its version ends up at expected + 1 as if the bulk write had applied
+            repository.pushAdminNote("early-note", note());
+            int modified = repository.applyStatusChanges(invocation.getArgument(0), invocation.getArgument(1));
+            // Lands after the bulk write applied: the version is now expected + 2
+            repository.pushAdminNote("late-note", note());
+            return modified;
+        }).when(applications).applyStatusChanges(anyMap(), any());
+
+        BulkStatusUpdateResponse response = service.bulkUpdateStatus(request("early-note", "late-note", "quiet"));
+
+        assertThat(response.getUpdated()).isEqualTo(3);
+        assertThat(response.getFailed()).isEmpty();
+
+        // Only rows the bulk write changed count as applied by it
+        verify(counterService).recordStatusChanges(argThat(previous -> ids(previous)
+                .equals(List.of("late-note", "quiet"))), eq("rejected"));
+        verify(emailService).sendBulkStatusUpdateEmails(argThat(sent -> ids(sent)
+                .equals(List.of("late-note", "quiet"))), eq("rejected"), any());
+
+        // The skipped row goes through the single-application path exactly once
+        verify(counterService).recordStatusChange("early-note", "job-1", "screening", "rejected");
+        verify(counterService, never()).recordStatusChange(eq("late-note"), any(), any(), any());
+        verify(emailService).sendRejectionEmail(eq("early-note@example.com"), any(), any());
+        verify(emailService, never()).sendRejectionEmail(eq("late-note@example.com"), any(), any());
+
+        for (String id : List.of("early-note", "late-note", "quiet")) {
+            assertSingleRejection(id);
+        }
+    }
+
+    private void assertSingleRejection(String id) {
+        JobApplication stored = repository.findByApplicationId(id).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo("rejected");
+        assertThat(stored.getStatusHistory())
+                .extracting(JobApplication.StatusHistory::getStatus)
+                .containsExactly("rejected");
+    }
+
+    private static List<String> ids(List<JobApplication> applications) {
+        return applications.stream().map(JobApplication::getApplicationId).toList();
+    }
+
+    private static BulkStatusUpdateRequest request(String... ids) {
+        return BulkStatusUpdateRequest.builder()
+                .applicationIds(List.of(ids))
+                .status("rejected")
+                .build();
+    }
+
+    private static JobApplication.AdminNote note() {
+        return JobApplication.AdminNote.builder().note("Called the candidate").addedBy("admin").build();
+    }
+
+    private static JobApplication application(String id) {
+        return JobApplication.builder()
+                .applicationId(id)
+                .jobId("job-1")
+                .jobTitle("Backend Developer")
+                .department("Engineering")
+                .firstName("Test")
+                .lastName(id)
+                .email(id + "@example.com")
+                .status("screening")
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.JobApplicationRepository;
+import com.tcon.careers.repository.JobApplicationRepositoryCustomImpl;
+import com.tcon.careers.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class JobApplicationServiceDeleteTests extends MongoIntegrationTest {
+
+    private JobApplicationRepository repository;
+    private FileStorageService fileStorageService;
+    private ApplicationCounterService counterService;
+    private JobApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = repository(JobApplicationRepository.class, new JobApplicationRepositoryCustomImpl(mongoTemplate));
+        fileStorageService = mock(FileStorageService.class);
+        counterService = mock(ApplicationCounterService.class);
+
+        service = new JobApplicationService(repository, mock(JobRepository.class), fileStorageService,
+                mock(EmailService.class), mock(RateLimitService.class), counterService,
+                mock(ApplicationEventBroadcaster.class), JsonMapper.builder().build(),
+                mock(ApplicationCache.class), mock(ApplicationArchiveService.class));
+
+        repository.save(application("app-1"));
+    }
+
+    @Test
+    void removesTheRowBeforeTheResume() {
+        doAnswer(invocation -> {
+            assertThat(repository.findByApplicationId("app-1")).isEmpty();
+            return null;
+        }).when(fileStorageService).deleteFile(anyString());
+
+        service.deleteApplication("app-1");
+
+        verify(fileStorageService).deleteFile("app-1.pdf");
+        assertThat(repository.findByApplicationId("app-1")).isEmpty();
+    }
+
+    @Test
+    void deletesARowUpdatedSinceItWasLastRead() {
+        // Bumps the version; a versioned delete of an earlier read would now fail
+        repository.pushAdminNote("app-1", JobApplication.AdminNote.builder().note("Called").addedBy("admin").build());
+
+        service.deleteApplication("app-1");
+
+        assertThat(repository.findByApplicationId("app-1")).isEmpty();
+        verify(counterService).recordDeletion(any(JobApplication.class));
+    }
+
+    @Test
+    void deletesArchivedApplicationsFromTheCounters() {
+        repository.moveToArchive(List.of(repository.findByApplicationId("app-1").orElseThrow()));
+
+        service.deleteApplication("app-1");
+
+        assertThat(repository.findArchivedById("app-1")).isEmpty();
+        verify(fileStorageService).deleteFile("app-1.pdf");
+        verify(counterService).recordDeletion(any(JobApplication.class));
+    }
+
+    @Test
+    void keepsTheResumeWhenThereIsNothingToDelete() {
+        assertThatThrownBy(() -> service.deleteApplication("missing")).isInstanceOf(RuntimeException.class);
+
+        verify(fileStorageService, never()).deleteFile(anyString());
+    }
+
+    private static JobApplication application(String id) {
+        return JobApplication.builder()
+                .applicationId(id)
+                .jobId("job-1")
+                .firstName("Test")
+                .lastName(id)
+                .email(id + "@example.com")
+                .status("screening")
+                .resumeUrl("https://storage.example.com/resumes/" + id + ".pdf")
+                .build();
+    }
+}
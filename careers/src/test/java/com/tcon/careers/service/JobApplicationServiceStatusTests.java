@@ -0,0 +1,137 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.dto.ApplicationEvent;
+import com.tcon.careers.dto.InterviewScheduleRequest;
+import com.tcon.careers.dto.StatusUpdateRequest;
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.JobApplicationRepository;
+import com.tcon.careers.repository.JobApplicationRepositoryCustomImpl;
+import com.tcon.careers.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Single status changes: one write, with the replaced status taken from its pre-image.
+ */
+class JobApplicationServiceStatusTests extends MongoIntegrationTest {
+
+    private JobApplicationRepository repository;
+    private JobApplicationRepository applications;
+    private ApplicationCounterService counterService;
+    private ApplicationEventBroadcaster eventBroadcaster;
+    private EmailService emailService;
+    private JobApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = repository(JobApplicationRepository.class, new JobApplicationRepositoryCustomImpl(mongoTemplate));
+        applications = mock(JobApplicationRepository.class, delegatesTo(repository));
+        counterService = mock(ApplicationCounterService.class);
+        eventBroadcaster = mock(ApplicationEventBroadcaster.class);
+        emailService = mock(EmailService.class);
+
+        service = new JobApplicationService(applications, mock(JobRepository.class), mock(FileStorageService.class),
+                emailService, mock(RateLimitService.class), counterService, eventBroadcaster,
+                JsonMapper.builder().build(), mock(ApplicationCache.class), mock(ApplicationArchiveService.class));
+
+        repository.save(JobApplication.builder()
+                .applicationId("app-1")
+                .jobId("job-1")
+                .jobTitle("Backend Developer")
+                .firstName("Test")
+                .lastName("Applicant")
+                .email("app-1@example.com")
+                .status("submitted")
+                .build());
+    }
+
+    @Test
+    void changesStatusInOneWrite() {
+        JobApplication updated = service.updateApplicationStatus("app-1", status("screening"));
+
+        assertThat(updated.getStatus()).isEqualTo("screening");
+        assertThat(updated.getVersion()).isEqualTo(repository.findByApplicationId("app-1").orElseThrow().getVersion());
+        verify(applications).applyStatusChange(eq("app-1"), any(), isNull());
+        verifyNoMoreInteractions(applications);
+        verify(counterService).recordStatusChange("app-1", "job-1", "submitted", "screening");
+        verify(eventBroadcaster).publish(argThat(event -> ApplicationEvent.STATUS_CHANGED.equals(event.getType())
+                && "submitted".equals(event.getPreviousStatus())));
+        verify(emailService).sendStatusUpdateEmail("app-1@example.com", "Test Applicant", "Backend Developer",
+                "screening", null);
+    }
+
+    @Test
+    void writesSinceTheLastReadDoNotGetInTheWay() {
+        repository.pushAdminNote("app-1", JobApplication.AdminNote.builder().note("Called").addedBy("admin").build());
+        service.updateApplicationStatus("app-1", status("screening"));
+
+        service.updateApplicationStatus("app-1", status("rejected"));
+
+        verify(counterService).recordStatusChange("app-1", "job-1", "screening", "rejected");
+        verify(emailService).sendRejectionEmail("app-1@example.com", "Test Applicant", "Backend Developer");
+        assertThat(repository.findByApplicationId("app-1").orElseThrow().getStatus()).isEqualTo("rejected");
+    }
+
+    @Test
+    void unchangedStatusOnlyRecordsTheHistoryEntry() {
+        service.updateApplicationStatus("app-1", status("submitted"));
+
+        verifyNoInteractions(counterService, eventBroadcaster, emailService);
+        assertThat(repository.findByApplicationId("app-1").orElseThrow().getStatusHistory())
+                .extracting(JobApplication.StatusHistory::getStatus)
+                .containsExactly("submitted");
+    }
+
+    @Test
+    void laterInterviewRoundsAreStillSentButCountedOnce() {
+        service.scheduleInterview("app-1", interview(1));
+        service.scheduleInterview("app-1", interview(2));
+
+        verify(counterService).recordStatusChange("app-1", "job-1", "submitted", "interview-scheduled");
+        verify(eventBroadcaster).publish(any());
+        verify(emailService, times(2)).sendInterviewInvitation(anyString(), anyString(), anyString(),
+                any(), any(), any(), any(), any());
+        assertThat(repository.findByApplicationId("app-1").orElseThrow().getInterviewSchedule()).hasSize(2);
+    }
+
+    @Test
+    void missingApplicationIsNotFound() {
+        assertThatThrownBy(() -> service.updateApplicationStatus("missing", status("screening")))
+                .hasMessageContaining("missing");
+
+        verify(counterService, never()).recordStatusChange(any(), any(), any(), any());
+        assertThat(repository.findByApplicationId("missing")).isEmpty();
+    }
+
+    private static StatusUpdateRequest status(String status) {
+        return StatusUpdateRequest.builder().status(status).build();
+    }
+
+    private static InterviewScheduleRequest interview(int round) {
+        return InterviewScheduleRequest.builder()
+                .round(round)
+                .scheduledDate(LocalDateTime.now().plusDays(round))
+                .interviewer("Lead")
+                .type("video")
+                .build();
+    }
+}
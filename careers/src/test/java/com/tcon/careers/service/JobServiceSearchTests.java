@@ -0,0 +1,142 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.MongoIntegrationTest;
+import com.tcon.careers.config.MongoIndexInitializer;
+import com.tcon.careers.dto.CursorPageResponse;
+import com.tcon.careers.dto.JobSummary;
+import com.tcon.careers.dto.PageResponse;
+import com.tcon.careers.model.Job;
+import com.tcon.careers.repository.JobRepository;
+import com.tcon.careers.repository.JobRepositoryCustomImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Job listing and search with app.jobs.snapshot.enabled=false, i.e. Criteria and $text
+ * queries against MongoDB.
+ */
+class JobServiceSearchTests extends MongoIntegrationTest {
+
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        JobRepository jobRepository = repository(JobRepository.class, new JobRepositoryCustomImpl(mongoTemplate));
+        new MongoIndexInitializer(mongoTemplate, jobRepository).createIndexes();
+
+        jobService = new JobService(jobRepository, mock(JobSnapshotService.class));
+        ReflectionTestUtils.setField(jobService, "snapshotEnabled", false);
+
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.saveAll(List.of(
+                job("Kubernetes Platform Engineer", "Engineering", "Run our clusters.", true, now.minusDays(3)),
+                job("Backend Developer", "Engineering", "Services deployed on Kubernetes.", true, now.minusDays(1)),
+                job("Product Designer", "Design", "Design the careers site.", true, now),
+                job("Kubernetes Administrator", "Engineering", "Retired role.", false, now)
+        ));
+    }
+
+    @Test
+    void listingReturnsActiveJobsNewestFirst() {
+        PageResponse<JobSummary> page = jobService.getAllActiveJobs(null, null, null, null, null, 0, 10);
+
+        assertThat(page.getContent())
+                .extracting(JobSummary::getTitle)
+                .containsExactly("Product Designer", "Backend Developer", "Kubernetes Platform Engineer");
+    }
+
+    @Test
+    void filtersCombineInsteadOfOnlyTheFirstOneApplying() {
+        PageResponse<JobSummary> page = jobService.getAllActiveJobs("Engineering", "Remote", "Full-time", "Senior",
+                null, 0, 10);
+
+        assertThat(page.getContent())
+                .extracting(JobSummary::getTitle)
+                .containsExactly("Backend Developer", "Kubernetes Platform Engineer");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(jobService.getAllActiveJobs("Engineering", "Onsite", null, null, null, 0, 10).getContent())
+                .isEmpty();
+    }
+
+    @Test
+    void listingRowsCarryTheCardFields() {
+        JobSummary summary = jobService.getAllActiveJobs("Design", null, null, null, null, 0, 10).getContent().get(0);
+
+        assertThat(summary.getId()).isNotNull();
+        assertThat(summary)
+                .extracting(JobSummary::getTitle, JobSummary::getDepartment, JobSummary::getLocation,
+                        JobSummary::getType, JobSummary::getSalary, JobSummary::getExperience)
+                .containsExactly("Product Designer", "Design", "Remote", "Full-time", "Competitive", "Senior");
+        assertThat(summary.getPostedDate()).isNotNull();
+    }
+
+    @Test
+    void startupCreatesTheTextIndex() {
+        assertThat(mongoTemplate.indexOps(Job.class).getIndexInfo())
+                .extracting(IndexInfo::getName)
+                .contains("job_text_idx");
+    }
+
+    @Test
+    void searchRanksTitleMatchesAboveDescriptionMatches() {
+        PageResponse<JobSummary> page = jobService.getAllActiveJobs(null, null, null, null, "kubernetes", 0, 10);
+
+        assertThat(page.getContent())
+                .extracting(JobSummary::getTitle)
+                .containsExactly("Kubernetes Platform Engineer", "Backend Developer");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void searchCombinesWithFilters() {
+        PageResponse<JobSummary> page = jobService.getAllActiveJobs("Design", null, null, null, "kubernetes", 0, 10);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    @Test
+    void cursorSearchReturnsNewestMatchesFirst() {
+        CursorPageResponse<JobSummary> page = jobService.getActiveJobsByCursor(
+                null, null, null, null, "kubernetes", null, 1, true);
+
+        assertThat(page.getContent())
+                .extracting(JobSummary::getTitle)
+                .containsExactly("Backend Developer");
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getTotalElements()).isEqualTo(2);
+
+        CursorPageResponse<JobSummary> next = jobService.getActiveJobsByCursor(
+                null, null, null, null, "kubernetes", page.getNextCursor(), 1, false);
+
+        assertThat(next.getContent())
+                .extracting(JobSummary::getTitle)
+                .containsExactly("Kubernetes Platform Engineer");
+        assertThat(next.isHasMore()).isFalse();
+    }
+
+    private static Job job(String title, String department, String description, boolean active,
+                           LocalDateTime postedDate) {
+        return Job.builder()
+                .title(title)
+                .department(department)
+                .location("Remote")
+                .type("Full-time")
+                .salary("Competitive")
+                .experience("Senior")
+                .description(description)
+                .requirements(List.of())
+                .responsibilities(List.of())
+                .isActive(active)
+                .postedDate(postedDate)
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.model.Job;
+import com.tcon.careers.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobServiceStatsTests {
+
+    private JobRepository jobRepository;
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        jobService = new JobService(jobRepository, mock(JobSnapshotService.class));
+        ReflectionTestUtils.setField(jobService, "statsCacheTtlMs", 60_000L);
+        when(jobRepository.updateActiveFlag(anyString(), anyBoolean())).thenReturn(Optional.of(new Job()));
+    }
+
+    @Test
+    void servesCachedStatsUntilAJobChanges() {
+        when(jobRepository.aggregateJobStats()).thenReturn(Map.of("totalJobs", 1L), Map.of("totalJobs", 2L));
+
+        assertThat(jobService.getJobStats()).containsEntry("totalJobs", 1L);
+        assertThat(jobService.getJobStats()).containsEntry("totalJobs", 1L);
+
+        jobService.toggleJobStatus("job-1", false);
+
+        assertThat(jobService.getJobStats()).containsEntry("totalJobs", 2L);
+        verify(jobRepository, times(2)).aggregateJobStats();
+    }
+
+    @Test
+    void aggregationOverlappingAWriteIsNotCached() {
+        when(jobRepository.aggregateJobStats())
+                .thenAnswer(invocation -> {
+                    // The write and its cache invalidation land while this aggregation is running
+                    jobService.toggleJobStatus("job-1", false);
+                    return Map.of("totalJobs", 1L);
+                })
+                .thenReturn(Map.of("totalJobs", 0L));
+
+        assertThat(jobService.getJobStats()).containsEntry("totalJobs", 1L);
+        assertThat(jobService.getJobStats()).containsEntry("totalJobs", 0L);
+    }
+}
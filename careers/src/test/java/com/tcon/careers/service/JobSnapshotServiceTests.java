@@ -0,0 +1,123 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.dto.CursorPageResponse;
+import com.tcon.careers.dto.JobSummary;
+import com.tcon.careers.dto.PageCursor;
+import com.tcon.careers.dto.PageResponse;
+import com.tcon.careers.model.Job;
+import com.tcon.careers.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobSnapshotServiceTests {
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private Job backend;
+    private Job designer;
+    private JobRepository jobRepository;
+    private JobSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        backend = job("job-1", "Backend Developer", "Engineering", now.minusDays(1));
+        designer = job("job-2", "Product Designer", "Design", now);
+
+        jobRepository = mock(JobRepository.class);
+        when(jobRepository.findByIsActiveTrue(any(Sort.class))).thenReturn(List.of(backend, designer));
+        service = new JobSnapshotService(jobRepository);
+    }
+
+    @Test
+    void pagesFollowPostedDateAndFilters() {
+        PageResponse<JobSummary> all = service.query(null, null, null, null, null, 0, 10);
+        PageResponse<JobSummary> engineering = service.query("Engineering", null, null, null, null, 0, 10);
+
+        assertThat(all.getContent()).extracting(JobSummary::getId).containsExactly("job-2", "job-1");
+        assertThat(engineering.getContent()).extracting(JobSummary::getId).containsExactly("job-1");
+    }
+
+    @Test
+    void pagesAreSlicedFromTheWholeMatchList() {
+        PageResponse<JobSummary> page = service.query(null, null, null, null, null, 1, 1);
+
+        assertThat(page.getContent()).extracting(JobSummary::getId).containsExactly("job-1");
+        assertThat(page.getTotalElements()).isEqualTo(2L);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.isLast()).isTrue();
+    }
+
+    @Test
+    void cursorPagesContinueAfterTheLastJob() {
+        CursorPageResponse<JobSummary> first = service.queryByCursor(null, null, null, null, null, null, 1, true);
+        CursorPageResponse<JobSummary> second = service.queryByCursor(null, null, null, null, null,
+                PageCursor.decode(first.getNextCursor()), 1, false);
+
+        assertThat(first.getContent()).extracting(JobSummary::getId).containsExactly("job-2");
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getTotalElements()).isEqualTo(2L);
+        assertThat(second.getContent()).extracting(JobSummary::getId).containsExactly("job-1");
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void queriesAreServedFromTheSnapshotUntilItIsRebuilt() {
+        service.query(null, null, null, null, null, 0, 10);
+        service.query("Design", null, null, null, null, 0, 10);
+        verify(jobRepository, times(1)).findByIsActiveTrue(any(Sort.class));
+
+        Job tester = job("job-3", "QA Engineer", "Engineering", now.plusDays(1));
+        when(jobRepository.findByIsActiveTrue(any(Sort.class))).thenReturn(List.of(backend, designer, tester));
+        service.refreshAfterWrite();
+
+        assertThat(service.query("Engineering", null, null, null, null, 0, 10).getContent())
+                .extracting(JobSummary::getId)
+                .containsExactly("job-3", "job-1");
+    }
+
+    @Test
+    void changingAReturnedSummaryDoesNotChangeTheSnapshot() {
+        service.query(null, null, null, null, null, 0, 10).getContent().get(0).setTitle("Changed");
+        service.queryByCursor(null, null, null, null, null, null, 10, false).getContent().get(1).setDepartment("Sales");
+
+        PageResponse<JobSummary> page = service.query("Engineering", null, null, null, null, 0, 10);
+
+        assertThat(page.getContent()).extracting(JobSummary::getTitle).containsExactly("Backend Developer");
+        assertThat(service.query(null, null, null, null, null, 0, 10).getContent())
+                .extracting(JobSummary::getTitle)
+                .containsExactly("Product Designer", "Backend Developer");
+    }
+
+    @Test
+    void changingALoadedJobDoesNotChangeTheSnapshot() {
+        service.rebuild();
+        backend.setTitle("Changed");
+        backend.setDepartment("Sales");
+
+        CursorPageResponse<JobSummary> page = service.queryByCursor("Engineering", null, null, null, null, null, 10, true);
+
+        assertThat(page.getContent()).extracting(JobSummary::getTitle).containsExactly("Backend Developer");
+    }
+
+    private static Job job(String id, String title, String department, LocalDateTime postedDate) {
+        return Job.builder()
+                .id(id)
+                .title(title)
+                .department(department)
+                .description(title + " role")
+                .postedDate(postedDate)
+                .build();
+    }
+}
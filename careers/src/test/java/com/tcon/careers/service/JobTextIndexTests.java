@@ -0,0 +1,56 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.model.Job;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobTextIndexTests {
+
+    private final JobTextIndex index = new JobTextIndex(List.of(
+            job("Kubernetes Engineer", "Run our clusters.", List.of()),
+            job("Backend Developer", "Services deployed on Kubernetes.", List.of()),
+            job("Platform Developer", "Own the build pipeline.", List.of("Kubernetes experience")),
+            job("Product Designer", "Design the careers site.", List.of())
+    ));
+
+    @Test
+    void ranksTitleAboveRequirementsAboveDescription() {
+        Map<Integer, Double> scores = index.score("kubernetes");
+
+        assertThat(scores).containsOnlyKeys(0, 1, 2);
+        assertThat(scores.get(0)).isGreaterThan(scores.get(2));
+        assertThat(scores.get(2)).isGreaterThan(scores.get(1));
+    }
+
+    @Test
+    void rarerTermsWeighMore() {
+        // "developer" is in two titles, "backend" in one
+        Map<Integer, Double> scores = index.score("backend developer");
+
+        assertThat(scores).containsOnlyKeys(1, 2);
+        assertThat(scores.get(1)).isGreaterThan(scores.get(2));
+        assertThat(index.score("backend").get(1)).isGreaterThan(index.score("developer").get(1));
+    }
+
+    @Test
+    void matchesWordFormsAndIgnoresStopWords() {
+        assertThat(index.score("engineering")).containsOnlyKeys(0);
+        assertThat(index.score("designers")).containsOnlyKeys(3);
+        assertThat(index.score("the and of")).isEmpty();
+        assertThat(index.score("")).isEmpty();
+    }
+
+    @Test
+    void tokenizeLowercasesStemsAndKeepsLanguageNames() {
+        assertThat(JobTextIndex.tokenize("Senior C++ and C# Engineers, Technologies!"))
+                .containsExactly("senior", "c++", "c#", "engineer", "technology");
+    }
+
+    private static Job job(String title, String description, List<String> requirements) {
+        return Job.builder().title(title).description(description).requirements(requirements).build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.exception.ConcurrentUpdateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptimisticRetryExecutorTests {
+
+    private OptimisticRetryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new OptimisticRetryExecutor();
+        ReflectionTestUtils.setField(executor, "maxAttempts", 3);
+        ReflectionTestUtils.setField(executor, "backoffMs", 1L);
+    }
+
+    @Test
+    void lostRacesAreRetriedUntilAnAttemptWins() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute("Application app-1", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("version changed");
+            }
+            return "applied";
+        });
+
+        assertThat(result).isEqualTo("applied");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void conflictIsReportedOnceTheAttemptsAreUsedUp() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute("Application app-1", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("version changed");
+        }))
+                .isInstanceOf(ConcurrentUpdateException.class)
+                .hasMessageContaining("Application app-1");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute("Application app-1", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("Application not found");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(attempts).hasValue(1);
+    }
+}
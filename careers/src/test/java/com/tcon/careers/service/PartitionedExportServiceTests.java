@@ -0,0 +1,180 @@
+package com.tcon.careers.service;
+
+import com.tcon.careers.dto.ApplicationFilter;
+import com.tcon.careers.model.JobApplication;
+import com.tcon.careers.repository.JobApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PartitionedExportServiceTests {
+
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(2024, 1, 11, 0, 0);
+
+    @Test
+    void windowsCoverTheRangeNewestFirstWithoutGapsOrOverlap() {
+        List<PartitionedExportService.Window> windows =
+                PartitionedExportService.split(Range.closed(EARLIEST, LATEST), 3);
+
+        assertThat(windows).hasSize(3);
+        assertThat(windows.get(0).until).isEqualTo(LATEST.plus(1, ChronoUnit.MILLIS));
+        assertThat(windows.get(windows.size() - 1).from).isEqualTo(EARLIEST);
+        for (int i = 0; i < windows.size() - 1; i++) {
+            assertThat(windows.get(i).from).isEqualTo(windows.get(i + 1).until);
+            assertThat(windows.get(i).from).isAfter(windows.get(i + 1).from);
+        }
+    }
+
+    @Test
+    void singleInstantRangeStillGetsAWindowHoldingIt() {
+        List<PartitionedExportService.Window> windows =
+                PartitionedExportService.split(Range.closed(EARLIEST, EARLIEST), 4);
+
+        assertThat(windows.get(windows.size() - 1).from).isEqualTo(EARLIEST);
+        assertThat(windows.get(0).until).isAfter(EARLIEST);
+        assertThat(windows).allSatisfy(window -> assertThat(window.from).isBeforeOrEqualTo(window.until));
+    }
+
+    @Test
+    void windowsAreWrittenNewestFirst() throws Exception {
+        JobApplicationRepository repository = mock(JobApplicationRepository.class);
+        when(repository.findApplicationDateRange(any())).thenReturn(Optional.of(Range.closed(EARLIEST, LATEST)));
+        when(repository.streamApplications(any(), any(), any(), any(String[].class)))
+                .thenAnswer(invocation -> Stream.of(application("window-" + invocation.getArgument(1))));
+        PartitionedExportService service = new PartitionedExportService(repository, JsonMapper.builder().build(), 2, 16);
+        ReflectionTestUtils.setField(service, "maxPartitions", 64);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            long rows = service.write(ApplicationFilter.builder().build(), "csv", 4, out);
+
+            List<String> windows = out.toString(StandardCharsets.UTF_8).lines().skip(1).toList();
+            assertThat(rows).isEqualTo(4);
+            assertThat(windows).hasSize(4).isSortedAccordingTo(Comparator.reverseOrder());
+            assertThat(windows.get(3)).startsWith("\"window-" + EARLIEST);
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void emptyRangeWritesOnlyTheHeader() throws Exception {
+        JobApplicationRepository repository = mock(JobApplicationRepository.class);
+        when(repository.findApplicationDateRange(any())).thenReturn(Optional.empty());
+        PartitionedExportService service = new PartitionedExportService(repository, JsonMapper.builder().build(), 2, 16);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            long rows = service.write(ApplicationFilter.builder().build(), "csv", 4, out);
+
+            assertThat(rows).isZero();
+            assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(1);
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void unknownFormatIsRejected() {
+        PartitionedExportService service =
+                new PartitionedExportService(mock(JobApplicationRepository.class), JsonMapper.builder().build(), 2, 16);
+        try {
+            assertThatThrownBy(() -> service.write(ApplicationFilter.builder().build(), "xlsx", 4,
+                    OutputStream.nullOutputStream())).isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsAnExportTheQueueHasNoRoomFor() throws Exception {
+        JobApplicationRepository repository = mock(JobApplicationRepository.class);
+        when(repository.findApplicationDateRange(any())).thenReturn(Optional.of(Range.closed(EARLIEST, LATEST)));
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.streamApplications(any(), any(), any(), any(String[].class))).thenAnswer(invocation -> {
+            release.await();
+            return Stream.empty();
+        });
+        when(repository.streamUndatedApplications(any(), any(String[].class))).thenReturn(Stream.empty());
+        PartitionedExportService service = new PartitionedExportService(repository, JsonMapper.builder().build(), 1, 2);
+        ReflectionTestUtils.setField(service, "maxPartitions", 64);
+        try {
+            // One window running and the other plus the undated one queued fill the pool
+            PartitionedExportService.PendingExport first = service.start(ApplicationFilter.builder().build(), "csv", 2);
+
+            assertThatThrownBy(() -> service.start(ApplicationFilter.builder().build(), "csv", 1))
+                    .isInstanceOf(IllegalStateException.class);
+
+            release.countDown();
+            assertThat(first.writeTo(OutputStream.nullOutputStream())).isZero();
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void undatedApplicationsAreExportedLast() throws Exception {
+        JobApplicationRepository repository = mock(JobApplicationRepository.class);
+        when(repository.findApplicationDateRange(any())).thenReturn(Optional.of(Range.closed(EARLIEST, LATEST)));
+        when(repository.streamApplications(any(), any(), any(), any(String[].class)))
+                .thenAnswer(invocation -> Stream.of(application("dated-" + invocation.getArgument(1))));
+        when(repository.streamUndatedApplications(any(), any(String[].class)))
+                .thenAnswer(invocation -> Stream.of(application("undated")));
+        PartitionedExportService service = new PartitionedExportService(repository, JsonMapper.builder().build(), 2, 16);
+        ReflectionTestUtils.setField(service, "maxPartitions", 64);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            long rows = service.write(ApplicationFilter.builder().build(), "csv", 2, out);
+
+            List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+            assertThat(rows).isEqualTo(3);
+            assertThat(lines).hasSize(4);
+            assertThat(lines.get(3)).startsWith("\"undated\"");
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void dateFilteredExportsSkipTheUndatedWindow() throws Exception {
+        JobApplicationRepository repository = mock(JobApplicationRepository.class);
+        when(repository.findApplicationDateRange(any())).thenReturn(Optional.of(Range.closed(EARLIEST, LATEST)));
+        when(repository.streamApplications(any(), any(), any(), any(String[].class))).thenAnswer(invocation -> Stream.empty());
+        PartitionedExportService service = new PartitionedExportService(repository, JsonMapper.builder().build(), 2, 16);
+        ReflectionTestUtils.setField(service, "maxPartitions", 64);
+        try {
+            service.write(ApplicationFilter.builder().dateFrom(EARLIEST).build(), "csv", 2, OutputStream.nullOutputStream());
+
+            verify(repository, never()).streamUndatedApplications(any(), any(String[].class));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private static JobApplication application(String id) {
+        return JobApplication.builder().applicationId(id).applicationDate(null).build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.tcon.careers.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TtlCacheTests {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesStoredValuesUntilEvicted() {
+        TtlCache<String, String> cache = new TtlCache<>("test", 10, 60_000);
+
+        assertThat(cache.get("a", this::load)).isEqualTo("a#1");
+        assertThat(cache.get("a", this::load)).isEqualTo("a#1");
+
+        cache.evict("a");
+
+        assertThat(cache.get("a", this::load)).isEqualTo("a#2");
+        assertThat(cache.stats())
+                .containsEntry("hits", 1L)
+                .containsEntry("misses", 2L)
+                .containsEntry("invalidations", 1L);
+    }
+
+    @Test
+    void reloadsExpiredEntries() throws InterruptedException {
+        TtlCache<String, String> cache = new TtlCache<>("test", 10, 20);
+        cache.get("a", this::load);
+
+        Thread.sleep(50);
+
+        assertThat(cache.get("a", this::load)).isEqualTo("a#2");
+        assertThat(cache.stats()).containsEntry("expirations", 1L);
+    }
+
+    @Test
+    void loadOverlappingAnEvictionIsNotStored() {
+        TtlCache<String, String> cache = new TtlCache<>("test", 10, 60_000);
+
+        String stale = cache.get("a", key -> {
+            // The entry is updated and evicted while this load is still reading the old value
+            cache.evict(key);
+            return load(key);
+        });
+
+        assertThat(stale).isEqualTo("a#1");
+        assertThat(cache.get("a", this::load)).isEqualTo("a#2");
+        assertThat(cache.stats()).containsEntry("size", 1);
+    }
+
+    @Test
+    void dropsTheLeastRecentlyUsedEntryWhenFull() {
+        TtlCache<String, String> cache = new TtlCache<>("test", 2, 60_000);
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.get("a", this::load);
+
+        cache.get("c", this::load);
+
+        assertThat(cache.stats()).containsEntry("size", 2).containsEntry("sizeEvictions", 1L);
+        assertThat(cache.get("a", this::load)).isEqualTo("a#1");
+        assertThat(cache.get("b", this::load)).isEqualTo("b#4");
+    }
+
+    @Test
+    void nullsAndZeroTtlAreNotCached() {
+        TtlCache<String, String> disabled = new TtlCache<>("test", 10, 0);
+        disabled.get("a", this::load);
+        disabled.get("a", this::load);
+
+        TtlCache<String, String> cache = new TtlCache<>("test", 10, 60_000);
+        cache.get("missing", key -> null);
+
+        assertThat(loads).hasValue(2);
+        assertThat(disabled.stats()).containsEntry("size", 0);
+        assertThat(cache.stats()).containsEntry("size", 0);
+    }
+
+    private String load(String key) {
+        return key + "#" + loads.incrementAndGet();
+    }
+}